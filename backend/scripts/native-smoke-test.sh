@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+#
+# Smoke test for the native executable built with `mvn -Pnative package`.
+# Boots the binary against a local PostgreSQL, waits for the health endpoint, exercises
+# register, campaign CRUD and the dashboard, then reports startup time and resident memory.
+#
+# Usage: scripts/native-smoke-test.sh [path-to-binary]
+# Environment: DB_URL, DB_USERNAME, DB_PASSWORD, PORT, STARTUP_TIMEOUT_SECONDS
+
+set -euo pipefail
+
+BINARY="${1:-target/campaign-manager}"
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:${PORT}"
+STARTUP_TIMEOUT_SECONDS="${STARTUP_TIMEOUT_SECONDS:-30}"
+LOG_FILE="$(mktemp -t campaign-manager-native.XXXXXX.log)"
+
+if [[ ! -x "${BINARY}" ]]; then
+    echo "Native binary not found at ${BINARY}; build it with: mvn -Pnative package" >&2
+    exit 1
+fi
+
+fail() {
+    echo "FAIL: $*" >&2
+    echo "---- application log (${LOG_FILE}) ----" >&2
+    tail -n 50 "${LOG_FILE}" >&2 || true
+    exit 1
+}
+
+start_ms=$(date +%s%3N)
+SPRING_PROFILES_ACTIVE=prod \
+JPA_DDL_AUTO=update \
+SPRING_DATASOURCE_URL="${DB_URL:-jdbc:postgresql://localhost:5432/campaignmanager}" \
+DB_USERNAME="${DB_USERNAME:-postgres}" \
+DB_PASSWORD="${DB_PASSWORD:-postgres}" \
+    "${BINARY}" --server.port="${PORT}" >"${LOG_FILE}" 2>&1 &
+APP_PID=$!
+trap 'kill "${APP_PID}" 2>/dev/null || true; wait "${APP_PID}" 2>/dev/null || true' EXIT
+
+deadline=$(( $(date +%s) + STARTUP_TIMEOUT_SECONDS ))
+until curl -sf "${BASE_URL}/actuator/health" | grep -q '"status":"UP"'; do
+    kill -0 "${APP_PID}" 2>/dev/null || fail "application exited during startup"
+    (( $(date +%s) < deadline )) || fail "application not healthy after ${STARTUP_TIMEOUT_SECONDS}s"
+    sleep 0.05
+done
+ready_ms=$(( $(date +%s%3N) - start_ms ))
+
+# request <method> <path> <expected status> [json body]; prints the response body
+request() {
+    local method="$1" path="$2" expected="$3" body="${4:-}"
+    local args=(-s -o /tmp/native-smoke-body -w '%{http_code}' -X "${method}" "${BASE_URL}${path}"
+                -H 'Content-Type: application/json')
+    [[ -n "${TOKEN:-}" ]] && args+=(-H "Authorization: Bearer ${TOKEN}")
+    [[ -n "${body}" ]] && args+=(-d "${body}")
+    local status
+    status=$(curl "${args[@]}")
+    [[ "${status}" == "${expected}" ]] || fail "${method} ${path} returned ${status}, expected ${expected}: $(cat /tmp/native-smoke-body)"
+    cat /tmp/native-smoke-body
+}
+
+json_field() {
+    sed -n "s/.*\"$1\":\"\([^\"]*\)\".*/\1/p"
+}
+
+email="native-smoke-$(date +%s)-$$@example.com"
+TOKEN=$(request POST /api/auth/register 201 \
+    "{\"email\":\"${email}\",\"password\":\"native-smoke-password\",\"name\":\"Native Smoke\"}" | json_field token)
+[[ -n "${TOKEN}" ]] || fail "register did not return a token"
+
+request POST /api/auth/login 200 "{\"email\":\"${email}\",\"password\":\"native-smoke-password\"}" >/dev/null
+
+campaign_id=$(request POST /api/campaigns 201 \
+    '{"name":"Native smoke campaign","budget":1000.00,"startDate":"2024-01-01","endDate":"2024-12-31","status":"DRAFT"}' \
+    | json_field id)
+[[ -n "${campaign_id}" ]] || fail "create campaign did not return an id"
+
+request GET "/api/campaigns/${campaign_id}" 200 >/dev/null
+request PUT "/api/campaigns/${campaign_id}" 200 \
+    '{"name":"Native smoke campaign (updated)","budget":1500.00,"startDate":"2024-01-01","endDate":"2024-12-31","status":"ACTIVE"}' >/dev/null
+request GET /api/campaigns 200 >/dev/null
+request GET /api/dashboard/summary 200 >/dev/null
+request GET /api/dashboard/top-campaigns 200 >/dev/null
+request DELETE "/api/campaigns/${campaign_id}" 204 >/dev/null
+
+started_line=$(grep -m1 'Started CampaignManagerApplication' "${LOG_FILE}" || true)
+rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/${APP_PID}/status" 2>/dev/null || ps -o rss= -p "${APP_PID}")
+
+echo "PASS: native smoke test"
+echo "  time to healthy:  ${ready_ms} ms"
+echo "  ${started_line:-startup line not found}"
+echo "  resident memory:  $(( rss_kb / 1024 )) MB"
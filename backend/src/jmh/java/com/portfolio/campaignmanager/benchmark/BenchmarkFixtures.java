@@ -0,0 +1,90 @@
+package com.portfolio.campaignmanager.benchmark;
+
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import com.portfolio.campaignmanager.model.entity.CampaignMetric;
+import com.portfolio.campaignmanager.model.entity.User;
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import com.portfolio.campaignmanager.model.enums.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ * Every fixture is derived from a fixed seed so results are comparable between commits.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 42L;
+
+    private static final CampaignStatus[] STATUSES = CampaignStatus.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a user with a stable ID and email.
+     */
+    static User user() {
+        User user = new User();
+        user.setId(new UUID(SEED, SEED));
+        user.setEmail("benchmark@example.com");
+        user.setPassword("$2a$10$N9qo8uLOickgx2ZMRZoMye1nFhEt8vMr1DPCJ7BNDZl5EzUqgZ6Ni");
+        user.setName("Benchmark User");
+        user.setRole(UserRole.USER);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return user;
+    }
+
+    /**
+     * Creates {@code count} campaigns owned by the given user, cycling through all statuses.
+     */
+    static List<Campaign> campaigns(User owner, int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Campaign> campaigns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Campaign campaign = new Campaign();
+            campaign.setId(new UUID(SEED, i));
+            campaign.setName("Campaign " + i);
+            campaign.setDescription("Benchmark campaign " + i);
+            campaign.setBudget(BigDecimal.valueOf(1_000 + random.nextInt(50_000), 2));
+            campaign.setStartDate(LocalDate.of(2024, 1, 1));
+            campaign.setEndDate(LocalDate.of(2024, 12, 31));
+            campaign.setTargetAudience("Everyone");
+            campaign.setStatus(STATUSES[i % STATUSES.length]);
+            campaign.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+            campaign.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+            campaign.setUser(owner);
+            campaigns.add(campaign);
+        }
+        return campaigns;
+    }
+
+    /**
+     * Creates one metric row per day for the given campaign.
+     */
+    static List<CampaignMetric> metrics(Campaign campaign, int days) {
+        SplittableRandom random = new SplittableRandom(SEED ^ campaign.getId().getLeastSignificantBits());
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        List<CampaignMetric> metrics = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            int impressions = random.nextInt(10_000);
+            int clicks = impressions == 0 ? 0 : random.nextInt(Math.max(1, impressions / 10));
+            int conversions = clicks == 0 ? 0 : random.nextInt(Math.max(1, clicks / 5));
+            metrics.add(CampaignMetric.builder()
+                    .id(new UUID(campaign.getId().getLeastSignificantBits(), day))
+                    .campaign(campaign)
+                    .date(start.plusDays(day))
+                    .impressions(impressions)
+                    .clicks(clicks)
+                    .conversions(conversions)
+                    .build());
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,75 @@
+package com.portfolio.campaignmanager.benchmark;
+
+import com.portfolio.campaignmanager.model.dto.CampaignPerformanceResponse;
+import com.portfolio.campaignmanager.model.dto.DashboardSummaryResponse;
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import com.portfolio.campaignmanager.model.entity.CampaignMetric;
+import com.portfolio.campaignmanager.model.entity.User;
+import com.portfolio.campaignmanager.repository.CampaignMetricRepository;
+import com.portfolio.campaignmanager.repository.CampaignRepository;
+import com.portfolio.campaignmanager.service.DashboardService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks for the in-memory aggregation loops in {@link DashboardService}.
+ * Repositories are replaced by stub-only mocks returning pre-built entity lists,
+ * so the measurement covers the stream aggregation and DTO assembly, not the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardAggregationBenchmark {
+
+    @Param({"10", "100"})
+    private int campaignCount;
+
+    @Param({"30", "365"})
+    private int metricDays;
+
+    private DashboardService dashboardService;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        userId = user.getId();
+
+        List<Campaign> campaigns = BenchmarkFixtures.campaigns(user, campaignCount);
+        Map<UUID, List<CampaignMetric>> metricsByCampaign = new HashMap<>();
+        for (Campaign campaign : campaigns) {
+            metricsByCampaign.put(campaign.getId(), BenchmarkFixtures.metrics(campaign, metricDays));
+        }
+
+        CampaignRepository campaignRepository = mock(CampaignRepository.class, withSettings().stubOnly());
+        CampaignMetricRepository campaignMetricRepository = mock(CampaignMetricRepository.class, withSettings().stubOnly());
+        when(campaignRepository.findByUserId(userId)).thenReturn(campaigns);
+        when(campaignMetricRepository.findByCampaignId(any(UUID.class)))
+                .thenAnswer(invocation -> metricsByCampaign.get(invocation.<UUID>getArgument(0)));
+
+        dashboardService = new DashboardService(campaignRepository, campaignMetricRepository,
+                new SimpleMeterRegistry(), Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public DashboardSummaryResponse dashboardSummary() {
+        return dashboardService.getDashboardSummary(userId);
+    }
+
+    @Benchmark
+    public List<CampaignPerformanceResponse> topCampaignsByPerformance() {
+        return dashboardService.getTopCampaignsByPerformance(userId, 5);
+    }
+}
@@ -0,0 +1,84 @@
+package com.portfolio.campaignmanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.campaignmanager.model.dto.CampaignMetricResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignPerformanceResponse;
+import com.portfolio.campaignmanager.model.dto.DashboardSummaryResponse;
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Jackson serialization of the dashboard response DTOs in each negotiable
+ * format: JSON, CBOR and Smile. Uses the same ObjectMapper defaults Spring Boot applies to
+ * MVC responses. The payload size of each response is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardSerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"30", "365"})
+    private int metricDays;
+
+    private ObjectMapper objectMapper;
+    private DashboardSummaryResponse summary;
+    private List<CampaignPerformanceResponse> topCampaigns;
+    private List<CampaignMetricResponse> metrics;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        summary = DashboardSummaryResponse.builder()
+                .totalCampaigns(42)
+                .activeCampaigns(17)
+                .totalBudget(new BigDecimal("1234567.89"))
+                .totalImpressions(98_765_432L)
+                .totalClicks(2_345_678L)
+                .totalConversions(123_456L)
+                .averageClickThroughRate(2.37)
+                .averageConversionRate(5.26)
+                .build();
+
+        List<Campaign> campaigns = BenchmarkFixtures.campaigns(BenchmarkFixtures.user(), 10);
+        topCampaigns = campaigns.stream()
+                .map(campaign -> CampaignPerformanceResponse.create(campaign.getId(), campaign.getName(),
+                        campaign.getStatus(), 1_000_000L, 25_000L, 1_250L))
+                .toList();
+
+        metrics = BenchmarkFixtures.metrics(campaigns.get(0), metricDays).stream()
+                .map(CampaignMetricResponse::fromEntity)
+                .toList();
+
+        System.out.printf("%n%s payload bytes: summary=%d, topCampaigns=%d, metrics(%d days)=%d%n", format,
+                serializeSummary().length, serializeTopCampaigns().length, metricDays, serializeMetrics().length);
+    }
+
+    @Benchmark
+    public byte[] serializeSummary() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] serializeTopCampaigns() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(topCampaigns);
+    }
+
+    @Benchmark
+    public byte[] serializeMetrics() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(metrics);
+    }
+}
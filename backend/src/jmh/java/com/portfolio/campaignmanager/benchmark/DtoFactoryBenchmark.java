@@ -0,0 +1,49 @@
+package com.portfolio.campaignmanager.benchmark;
+
+import com.portfolio.campaignmanager.model.dto.CampaignMetricResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignPerformanceResponse;
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import com.portfolio.campaignmanager.model.entity.CampaignMetric;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the DTO factory methods that compute derived rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoFactoryBenchmark {
+
+    private Campaign campaign;
+    private List<CampaignMetric> metrics;
+
+    @Setup
+    public void setUp() {
+        campaign = BenchmarkFixtures.campaigns(BenchmarkFixtures.user(), 1).get(0);
+        metrics = BenchmarkFixtures.metrics(campaign, 30);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(30)
+    public void metricResponseFromEntity(Blackhole blackhole) {
+        for (CampaignMetric metric : metrics) {
+            blackhole.consume(CampaignMetricResponse.fromEntity(metric));
+        }
+    }
+
+    @Benchmark
+    public CampaignPerformanceResponse performanceResponseCreate() {
+        return CampaignPerformanceResponse.create(
+                campaign.getId(),
+                campaign.getName(),
+                campaign.getStatus(),
+                1_234_567L,
+                45_678L,
+                1_234L
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.campaignmanager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Records request latencies for one scenario. Each worker thread owns its own recorders,
+ * which are merged once the run is over, so recording never contends.
+ */
+final class LatencyRecorder {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, Math.max(latenciesNanos.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the given percentile (0-100) in milliseconds. Sorts the recorded samples in place.
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        Arrays.sort(latenciesNanos, 0, count);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return latenciesNanos[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+}
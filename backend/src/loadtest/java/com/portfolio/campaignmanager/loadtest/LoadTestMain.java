@@ -0,0 +1,340 @@
+package com.portfolio.campaignmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.campaignmanager.CampaignManagerApplication;
+import com.portfolio.campaignmanager.datagen.DataGenerationProperties;
+import com.portfolio.campaignmanager.datagen.SyntheticDataGenerator;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.net.http.HttpClient;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Entry point of the HTTP load test.
+ *
+ * <p>Boots the application against an embedded PostgreSQL, seeds the configured data volume,
+ * measures the SQL statements each endpoint issues, then drives a weighted request mix from a
+ * pool of worker threads and reports throughput and latency percentiles per endpoint.</p>
+ */
+public final class LoadTestMain {
+
+    private static final int STATEMENT_PROBE_RUNS = 3;
+    private static final String PASSWORD = "loadtest-password";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int exitCode;
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            ConfigurableApplicationContext context = startApplication(postgres);
+            try {
+                exitCode = run(settings, postgres, context);
+            } finally {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.generate_statistics", "true");
+        properties.put("server.port", "0");
+        // All load comes from a few users on one address; throttling would cap the measured throughput
+        properties.put("rate-limit.enabled", "false");
+        properties.put("logging.file.name", "");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.portfolio.campaignmanager", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+
+        // Passed as command-line arguments, which take precedence over application.yml; default
+        // properties would lose to its datasource URL and server port
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(CampaignManagerApplication.class)
+                .run(args);
+    }
+
+    private static int run(LoadTestSettings settings, EmbeddedPostgres postgres,
+                           ConfigurableApplicationContext context) throws Exception {
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        Statistics statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        log("Seeding %d users x %d campaigns x %d metric days", settings.users, settings.campaignsPerUser, settings.metricDays);
+        List<VirtualUser> users = seed(settings, context.getBean(SyntheticDataGenerator.class));
+        verifyDatabase(postgres, context, settings.users);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(settings.threads))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ScenarioClient client = new ScenarioClient(httpClient, objectMapper, "http://localhost:" + port);
+
+        for (VirtualUser user : users) {
+            if (!client.login(user)) {
+                throw new IllegalStateException("Initial login failed for " + user.email);
+            }
+        }
+
+        Map<Scenario, Double> statementsPerRequest = probeStatements(client, users.get(0), statistics);
+
+        log("Warming up for %ds", settings.warmup.toSeconds());
+        drive(settings, client, users, settings.warmup);
+
+        log("Running %d threads for %ds", settings.threads, settings.duration.toSeconds());
+        long started = System.nanoTime();
+        Map<Scenario, LatencyRecorder> results = drive(settings, client, users, settings.duration);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        ObjectNode report = report(settings, results, statementsPerRequest, elapsedSeconds, objectMapper);
+        File reportFile = new File(settings.reportFile);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+        log("Report written to %s", reportFile.getAbsolutePath());
+
+        return checkStatementBudget(settings, statementsPerRequest);
+    }
+
+    /**
+     * Seeds the configured volume with the synthetic data generator and returns the matching virtual users.
+     * Campaign IDs are derived from the generator seed, so nothing has to be read back from the database.
+     */
+    private static List<VirtualUser> seed(LoadTestSettings settings, SyntheticDataGenerator generator) {
+        DataGenerationProperties profile = new DataGenerationProperties();
+        profile.setUsers(settings.users);
+        profile.setCampaignsPerUser(settings.campaignsPerUser);
+        profile.setDays(settings.metricDays);
+        profile.setPassword(PASSWORD);
+        generator.generate(profile);
+
+        List<VirtualUser> users = new ArrayList<>(settings.users);
+        for (int user = 0; user < settings.users; user++) {
+            List<UUID> campaignIds = new ArrayList<>(settings.campaignsPerUser);
+            for (int campaign = 0; campaign < settings.campaignsPerUser; campaign++) {
+                campaignIds.add(SyntheticDataGenerator.campaignId(profile.getSeed(), user, campaign));
+            }
+            users.add(new VirtualUser(SyntheticDataGenerator.email(user), PASSWORD, campaignIds));
+        }
+        return users;
+    }
+
+    /**
+     * Fails unless the application is connected to the embedded database and the seeded users
+     * are in it, so a misconfigured run cannot measure some other database.
+     */
+    private static void verifyDatabase(EmbeddedPostgres postgres, ConfigurableApplicationContext context,
+                                       int expectedUsers) throws SQLException {
+        try (Connection connection = context.getBean(DataSource.class).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT inet_server_port()")) {
+            result.next();
+            int port = result.getInt(1);
+            if (port != postgres.getPort()) {
+                throw new IllegalStateException("Application is connected to the database on port " + port
+                        + " instead of the embedded database on port " + postgres.getPort());
+            }
+        }
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT count(*) FROM users")) {
+            result.next();
+            long users = result.getLong(1);
+            if (users < expectedUsers) {
+                throw new IllegalStateException("Embedded database holds " + users + " users, expected at least "
+                        + expectedUsers);
+            }
+        }
+    }
+
+    /**
+     * Runs every scenario sequentially and records how many JDBC statements it prepared on average.
+     * Runs single-threaded so the global Hibernate statistics can be attributed to one endpoint.
+     */
+    private static Map<Scenario, Double> probeStatements(ScenarioClient client, VirtualUser user,
+                                                         Statistics statistics) throws Exception {
+        Map<Scenario, Double> statementsPerRequest = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            long total = 0;
+            for (int i = 0; i < STATEMENT_PROBE_RUNS; i++) {
+                UUID deleteTarget = null;
+                if (scenario == Scenario.DELETE_CAMPAIGN) {
+                    client.execute(Scenario.CREATE_CAMPAIGN, user, null);
+                    deleteTarget = user.takeCreatedCampaign();
+                }
+                long before = statistics.getPrepareStatementCount();
+                client.execute(scenario, user, deleteTarget);
+                total += statistics.getPrepareStatementCount() - before;
+            }
+            statementsPerRequest.put(scenario, (double) total / STATEMENT_PROBE_RUNS);
+        }
+        return statementsPerRequest;
+    }
+
+    /**
+     * Drives the weighted scenario mix from {@code settings.threads} workers for the given duration.
+     */
+    private static Map<Scenario, LatencyRecorder> drive(LoadTestSettings settings, ScenarioClient client,
+                                                        List<VirtualUser> users, Duration duration) throws Exception {
+        Scenario[] scenarios = Scenario.values();
+        int[] cumulativeWeights = new int[scenarios.length];
+        int totalWeight = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            totalWeight += settings.mix.get(scenarios[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+        final int weightSum = totalWeight;
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads);
+        List<Future<Map<Scenario, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int t = 0; t < settings.threads; t++) {
+            futures.add(workers.submit(() -> {
+                Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Scenario scenario = pick(scenarios, cumulativeWeights, random.nextInt(weightSum));
+                    VirtualUser user = users.get(random.nextInt(users.size()));
+                    UUID deleteTarget = null;
+                    if (scenario == Scenario.DELETE_CAMPAIGN) {
+                        deleteTarget = user.takeCreatedCampaign();
+                        if (deleteTarget == null) {
+                            scenario = Scenario.CREATE_CAMPAIGN;
+                        }
+                    }
+
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = client.execute(scenario, user, deleteTarget);
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    recorders.computeIfAbsent(scenario, s -> new LatencyRecorder())
+                            .record(System.nanoTime() - start, success);
+                }
+                return recorders;
+            }));
+        }
+
+        Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+        for (Future<Map<Scenario, LatencyRecorder>> future : futures) {
+            future.get().forEach((scenario, recorder) ->
+                    merged.computeIfAbsent(scenario, s -> new LatencyRecorder()).merge(recorder));
+        }
+        workers.shutdown();
+        return merged;
+    }
+
+    private static Scenario pick(Scenario[] scenarios, int[] cumulativeWeights, int roll) {
+        for (int i = 0; i < scenarios.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private static ObjectNode report(LoadTestSettings settings, Map<Scenario, LatencyRecorder> results,
+                                     Map<Scenario, Double> statementsPerRequest, double elapsedSeconds,
+                                     ObjectMapper objectMapper) {
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("users", settings.users);
+        report.put("campaignsPerUser", settings.campaignsPerUser);
+        report.put("metricDays", settings.metricDays);
+        report.put("threads", settings.threads);
+        report.put("durationSeconds", elapsedSeconds);
+
+        ArrayNode endpoints = report.putArray("endpoints");
+        long totalRequests = 0;
+        System.out.printf("%n%-45s %8s %7s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "sql/req");
+        for (Scenario scenario : Scenario.values()) {
+            LatencyRecorder recorder = results.getOrDefault(scenario, new LatencyRecorder());
+            double throughput = recorder.count() / elapsedSeconds;
+            double statements = statementsPerRequest.getOrDefault(scenario, 0.0);
+            totalRequests += recorder.count();
+
+            ObjectNode endpoint = endpoints.addObject();
+            endpoint.put("scenario", scenario.key);
+            endpoint.put("endpoint", scenario.endpoint);
+            endpoint.put("requests", recorder.count());
+            endpoint.put("errors", recorder.errors());
+            endpoint.put("throughputPerSecond", throughput);
+            endpoint.put("p50Ms", recorder.percentileMillis(50));
+            endpoint.put("p90Ms", recorder.percentileMillis(90));
+            endpoint.put("p99Ms", recorder.percentileMillis(99));
+            endpoint.put("maxMs", recorder.percentileMillis(100));
+            endpoint.put("sqlStatementsPerRequest", statements);
+
+            System.out.printf("%-45s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %8.1f%n",
+                    scenario.endpoint, recorder.count(), recorder.errors(), throughput,
+                    recorder.percentileMillis(50), recorder.percentileMillis(90),
+                    recorder.percentileMillis(99), recorder.percentileMillis(100), statements);
+        }
+        report.put("totalRequests", totalRequests);
+        report.put("throughputPerSecond", totalRequests / elapsedSeconds);
+        System.out.printf("%ntotal: %d requests, %.1f req/s%n%n", totalRequests, totalRequests / elapsedSeconds);
+        return report;
+    }
+
+    /**
+     * Fails the run when any endpoint issues more SQL statements per request than allowed.
+     */
+    private static int checkStatementBudget(LoadTestSettings settings, Map<Scenario, Double> statementsPerRequest) {
+        if (settings.maxStatementsPerRequest <= 0) {
+            return 0;
+        }
+        int exitCode = 0;
+        for (Map.Entry<Scenario, Double> entry : statementsPerRequest.entrySet()) {
+            if (entry.getValue() > settings.maxStatementsPerRequest) {
+                log("Statement budget exceeded: %s issued %.1f statements per request (max %d)",
+                        entry.getKey().endpoint, entry.getValue(), settings.maxStatementsPerRequest);
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[load-test] " + format + "%n", args);
+    }
+}
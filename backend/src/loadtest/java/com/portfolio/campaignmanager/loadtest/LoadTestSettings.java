@@ -0,0 +1,71 @@
+package com.portfolio.campaignmanager.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings read from {@code loadtest.*} system properties.
+ */
+final class LoadTestSettings {
+
+    final int users;
+    final int campaignsPerUser;
+    final int metricDays;
+    final int threads;
+    final Duration warmup;
+    final Duration duration;
+    final Map<Scenario, Integer> mix;
+    final int maxStatementsPerRequest;
+    final String reportFile;
+
+    private LoadTestSettings(int users, int campaignsPerUser, int metricDays, int threads,
+                             Duration warmup, Duration duration, Map<Scenario, Integer> mix,
+                             int maxStatementsPerRequest, String reportFile) {
+        this.users = users;
+        this.campaignsPerUser = campaignsPerUser;
+        this.metricDays = metricDays;
+        this.threads = threads;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+        this.reportFile = reportFile;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.campaignsPerUser", 10),
+                Integer.getInteger("loadtest.metricDays", 30),
+                Integer.getInteger("loadtest.threads", 16),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 60)),
+                parseMix(System.getProperty("loadtest.mix", "")),
+                Integer.getInteger("loadtest.maxStatementsPerRequest", 0),
+                System.getProperty("loadtest.reportFile", "target/loadtest-report.json")
+        );
+    }
+
+    /**
+     * Parses a weighted mix such as {@code listCampaigns:30,dashboardSummary:20}.
+     * Scenarios missing from the mix keep their default weight.
+     */
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, scenario.defaultWeight);
+        }
+        if (value == null || value.isBlank()) {
+            return mix;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            mix.put(Scenario.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,35 @@
+package com.portfolio.campaignmanager.loadtest;
+
+/**
+ * The request types driven by the load test, with their default share of the mix.
+ */
+enum Scenario {
+    LOGIN("login", "POST /api/auth/login", 2),
+    LIST_CAMPAIGNS("listCampaigns", "GET /api/campaigns", 25),
+    GET_CAMPAIGN("getCampaign", "GET /api/campaigns/{id}", 15),
+    CREATE_CAMPAIGN("createCampaign", "POST /api/campaigns", 5),
+    UPDATE_CAMPAIGN("updateCampaign", "PUT /api/campaigns/{id}", 5),
+    DELETE_CAMPAIGN("deleteCampaign", "DELETE /api/campaigns/{id}", 3),
+    DASHBOARD_SUMMARY("dashboardSummary", "GET /api/dashboard/summary", 25),
+    TOP_CAMPAIGNS("topCampaigns", "GET /api/dashboard/top-campaigns", 10),
+    CAMPAIGN_METRICS("campaignMetrics", "GET /api/dashboard/campaigns/{id}/metrics", 10);
+
+    final String key;
+    final String endpoint;
+    final int defaultWeight;
+
+    Scenario(String key, String endpoint, int defaultWeight) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario: " + key);
+    }
+}
@@ -0,0 +1,122 @@
+package com.portfolio.campaignmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Issues the HTTP request for a scenario on behalf of a virtual user.
+ */
+final class ScenarioClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    ScenarioClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Executes one request and reports whether it returned the expected status.
+     *
+     * @param deleteTarget the campaign to delete for {@link Scenario#DELETE_CAMPAIGN}, ignored otherwise
+     */
+    boolean execute(Scenario scenario, VirtualUser user, UUID deleteTarget) throws IOException, InterruptedException {
+        switch (scenario) {
+            case LOGIN:
+                return login(user);
+            case LIST_CAMPAIGNS:
+                return send(authorized(user, "/api/campaigns").GET()).statusCode() == 200;
+            case GET_CAMPAIGN:
+                return send(authorized(user, "/api/campaigns/" + user.randomSeededCampaign()).GET()).statusCode() == 200;
+            case CREATE_CAMPAIGN:
+                return createCampaign(user);
+            case UPDATE_CAMPAIGN:
+                return send(authorized(user, "/api/campaigns/" + user.randomSeededCampaign())
+                        .header("Content-Type", "application/json")
+                        .PUT(jsonBody(campaignPayload("Updated"))))
+                        .statusCode() == 200;
+            case DELETE_CAMPAIGN:
+                return send(authorized(user, "/api/campaigns/" + deleteTarget).DELETE()).statusCode() == 204;
+            case DASHBOARD_SUMMARY:
+                return send(authorized(user, "/api/dashboard/summary").GET()).statusCode() == 200;
+            case TOP_CAMPAIGNS:
+                return send(authorized(user, "/api/dashboard/top-campaigns?limit=5").GET()).statusCode() == 200;
+            case CAMPAIGN_METRICS:
+                return send(authorized(user, "/api/dashboard/campaigns/" + user.randomSeededCampaign() + "/metrics")
+                        .GET()).statusCode() == 200;
+            default:
+                throw new IllegalStateException("Unhandled scenario: " + scenario);
+        }
+    }
+
+    /**
+     * Logs the user in and stores the returned token for subsequent requests.
+     */
+    boolean login(VirtualUser user) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(jsonBody(Map.of("email", user.email, "password", user.password))));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        user.token(objectMapper.readTree(response.body()).path("token").asText());
+        return true;
+    }
+
+    private boolean createCampaign(VirtualUser user) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(authorized(user, "/api/campaigns")
+                .header("Content-Type", "application/json")
+                .POST(jsonBody(campaignPayload("Created"))));
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        user.campaignCreated(UUID.fromString(body.path("id").asText()));
+        return true;
+    }
+
+    private Map<String, Object> campaignPayload(String prefix) {
+        LocalDate today = LocalDate.now();
+        return Map.of(
+                "name", prefix + " load test campaign " + ThreadLocalRandom.current().nextInt(1_000_000),
+                "description", "Written by the load test",
+                "budget", 1_000 + ThreadLocalRandom.current().nextInt(50_000),
+                "startDate", today.toString(),
+                "endDate", today.plusDays(30).toString(),
+                "targetAudience", "Everyone",
+                "status", "DRAFT"
+        );
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.Builder authorized(VirtualUser user, String path) {
+        return request(path).header("Authorization", "Bearer " + user.token());
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
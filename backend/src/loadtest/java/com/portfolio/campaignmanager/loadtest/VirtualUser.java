@@ -0,0 +1,51 @@
+package com.portfolio.campaignmanager.loadtest;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A seeded account driven by the load test. Shared between worker threads.
+ */
+final class VirtualUser {
+
+    final String email;
+    final String password;
+    private final List<UUID> seededCampaignIds;
+    private final Deque<UUID> createdCampaignIds = new ConcurrentLinkedDeque<>();
+    private volatile String token;
+
+    VirtualUser(String email, String password, List<UUID> seededCampaignIds) {
+        this.email = email;
+        this.password = password;
+        this.seededCampaignIds = List.copyOf(seededCampaignIds);
+    }
+
+    String token() {
+        return token;
+    }
+
+    void token(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Picks one of the seeded campaigns. Seeded campaigns are never deleted by the load test.
+     */
+    UUID randomSeededCampaign() {
+        return seededCampaignIds.get(ThreadLocalRandom.current().nextInt(seededCampaignIds.size()));
+    }
+
+    void campaignCreated(UUID campaignId) {
+        createdCampaignIds.addLast(campaignId);
+    }
+
+    /**
+     * Removes and returns a campaign created during the run, or null if there is none to delete.
+     */
+    UUID takeCreatedCampaign() {
+        return createdCampaignIds.pollFirst();
+    }
+}
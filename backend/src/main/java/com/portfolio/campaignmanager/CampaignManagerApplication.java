@@ -2,12 +2,20 @@ package com.portfolio.campaignmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class CampaignManagerApplication {
 
+    /**
+     * Number of startup steps buffered for timing reports and the actuator startup endpoint.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(CampaignManagerApplication.class, args);
+        SpringApplication application = new SpringApplication(CampaignManagerApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
-}
\ No newline at end of file
+}
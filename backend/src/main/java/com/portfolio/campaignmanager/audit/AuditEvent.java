@@ -0,0 +1,36 @@
+package com.portfolio.campaignmanager.audit;
+
+import com.portfolio.campaignmanager.model.enums.AuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A change captured for the audit log. Holds the field values before and after the change;
+ * the diff is computed by the writer, off the request thread.
+ */
+@Data
+@AllArgsConstructor
+public class AuditEvent {
+
+    private final UUID id;
+    private final String entityType;
+    private final UUID entityId;
+    private final UUID userId;
+    private final AuditAction action;
+
+    /**
+     * Field values before the change; empty for creations.
+     */
+    private final Map<String, Object> before;
+
+    /**
+     * Field values after the change; empty for deletions.
+     */
+    private final Map<String, Object> after;
+
+    private final LocalDateTime occurredAt;
+}
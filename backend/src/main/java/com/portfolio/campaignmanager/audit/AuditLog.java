@@ -0,0 +1,274 @@
+package com.portfolio.campaignmanager.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.campaignmanager.model.enums.AuditAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind audit log. Requests only put the captured change into a bounded in-memory
+ * ring buffer; a background writer computes the diffs and inserts them into
+ * {@code audit_log} in JDBC batches, so auditing adds no database round trip to a write.
+ *
+ * <p>Changes made inside a transaction are buffered once it commits, so rolled-back changes
+ * are never audited. The writer waits up to {@code audit.flush-interval} for a batch of
+ * {@code audit.batch-size} events to fill before writing what it has. When the buffer is
+ * full, {@code audit.overflow-policy} decides which event is dropped. On shutdown the
+ * buffer is written out before the connection pool closes.</p>
+ *
+ * <p>Buffered events are lost if the process dies, which is the price of keeping the write
+ * path free of audit latency. Metrics: {@code audit.events} (tag {@code result}:
+ * {@code written}, {@code dropped} or {@code failed}) and {@code audit.buffer.size}.</p>
+ */
+@Component
+@Slf4j
+public class AuditLog {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (id, entity_type, entity_id, user_id, action, changes, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?::jsonb, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditProperties properties;
+    private final BlockingQueue<AuditEvent> buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditLog(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AuditProperties properties,
+                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.written = events(meterRegistry, "written");
+        this.dropped = events(meterRegistry, "dropped");
+        this.failed = events(meterRegistry, "failed");
+        Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("audit.events")
+                .description("Audit events by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::run, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Records a change. Never blocks longer than {@code audit.block-timeout} and never fails
+     * the caller; the event is written later by the background writer.
+     *
+     * @param entityType Type of the changed entity, e.g. {@code campaign}
+     * @param entityId ID of the changed entity
+     * @param userId User making the change
+     * @param action Kind of change
+     * @param before Field values before the change; empty for creations
+     * @param after Field values after the change; empty for deletions
+     */
+    public void record(String entityType, UUID entityId, UUID userId, AuditAction action,
+                       Map<String, Object> before, Map<String, Object> after) {
+        if (!running) {
+            return;
+        }
+
+        AuditEvent event = new AuditEvent(UUID.randomUUID(), entityType, entityId, userId, action,
+                before, after, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        switch (properties.getOverflowPolicy()) {
+            case DROP_NEWEST -> {
+                if (!buffer.offer(event)) {
+                    drop(event);
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    AuditEvent oldest = buffer.poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                }
+            }
+            case BLOCK -> {
+                try {
+                    if (!buffer.offer(event, properties.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                        drop(event);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(event);
+                }
+            }
+        }
+    }
+
+    private void drop(AuditEvent event) {
+        dropped.increment();
+        log.warn("Audit buffer full, dropped {} of {} {}", event.getAction(), event.getEntityType(), event.getEntityId());
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first event, then collects events until the batch is full or the flush
+     * interval has passed since the first one.
+     */
+    private void fill(List<AuditEvent> batch) throws InterruptedException {
+        long interval = properties.getFlushInterval().toNanos();
+        AuditEvent first = buffer.poll(interval, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + interval;
+        int batchSize = properties.getBatchSize();
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AuditEvent next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, event) -> {
+                statement.setObject(1, event.getId());
+                statement.setString(2, event.getEntityType());
+                statement.setObject(3, event.getEntityId());
+                statement.setObject(4, event.getUserId());
+                statement.setString(5, event.getAction().name());
+                statement.setString(6, changes(event));
+                statement.setObject(7, event.getOccurredAt());
+            });
+            written.increment(batch.size());
+            log.debug("Wrote {} audit events", batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} audit events: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * JSON object of the fields whose value changed, each with its {@code from} and {@code to} value.
+     */
+    private String changes(AuditEvent event) {
+        Set<String> fields = new LinkedHashSet<>(event.getBefore().keySet());
+        fields.addAll(event.getAfter().keySet());
+
+        ObjectNode changes = objectMapper.createObjectNode();
+        for (String field : fields) {
+            Object from = event.getBefore().get(field);
+            Object to = event.getAfter().get(field);
+            if (!sameValue(from, to)) {
+                ObjectNode change = changes.putObject(field);
+                change.set("from", objectMapper.valueToTree(from));
+                change.set("to", objectMapper.valueToTree(to));
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize audit changes", e);
+        }
+    }
+
+    private static boolean sameValue(Object from, Object to) {
+        if (from instanceof BigDecimal a && to instanceof BigDecimal b) {
+            return a.compareTo(b) == 0;
+        }
+        return Objects.equals(from, to);
+    }
+
+    /**
+     * Stops the writer and writes out the events still buffered.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(properties.getFlushInterval().multipliedBy(2).toMillis() + 5_000);
+
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (buffer.drainTo(batch, properties.getBatchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+        log.info("Audit writer stopped");
+    }
+}
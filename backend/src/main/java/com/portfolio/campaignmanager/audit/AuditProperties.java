@@ -0,0 +1,65 @@
+package com.portfolio.campaignmanager.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Audit log settings, bound from {@code audit.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    /**
+     * Whether changes are audited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Audit events buffered in memory while waiting to be written.
+     */
+    private int capacity = 8192;
+
+    /**
+     * Most events written in one JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time an event waits for its batch to fill before the batch is written anyway.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * What happens to a new event when the buffer is full.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * With {@link OverflowPolicy#BLOCK}, how long a request waits for room before the event
+     * is dropped.
+     */
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    /**
+     * Handling of events that arrive while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the oldest buffered event to make room.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the new event.
+         */
+        DROP_NEWEST,
+        /**
+         * Make the request wait up to {@code block-timeout} for room, then drop the new event.
+         */
+        BLOCK
+    }
+}
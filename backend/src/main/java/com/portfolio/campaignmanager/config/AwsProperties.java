@@ -0,0 +1,38 @@
+package com.portfolio.campaignmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AWS connection settings, bound from {@code aws.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aws")
+public class AwsProperties {
+
+    private String accessKeyId;
+
+    private String secretAccessKey;
+
+    private S3 s3 = new S3();
+
+    @Data
+    public static class S3 {
+
+        private String bucketName;
+
+        private String region = "us-east-1";
+
+        /**
+         * Endpoint override for S3-compatible stores such as MinIO or LocalStack.
+         */
+        private String endpoint;
+
+        /**
+         * Use path-style URLs ({@code endpoint/bucket/key}); most S3-compatible stores need this.
+         */
+        private boolean pathStyleAccess;
+    }
+}
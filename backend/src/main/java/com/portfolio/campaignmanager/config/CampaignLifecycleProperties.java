@@ -0,0 +1,54 @@
+package com.portfolio.campaignmanager.config;
+
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Automatic campaign status transitions, bound from {@code campaigns.lifecycle.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "campaigns.lifecycle")
+public class CampaignLifecycleProperties {
+
+    /**
+     * Whether campaigns are transitioned automatically.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time between runs across all instances.
+     */
+    private Duration interval = Duration.ofMinutes(1);
+
+    /**
+     * Campaign ID ranges the job is split into; instances run different ranges at once.
+     */
+    private int shards = 4;
+
+    /**
+     * Statuses that become ACTIVE once the start date is reached, unless the end date has passed.
+     */
+    private List<CampaignStatus> activateFrom = new ArrayList<>(List.of(CampaignStatus.DRAFT));
+
+    /**
+     * Statuses that become COMPLETED once the end date has passed.
+     */
+    private List<CampaignStatus> completeFrom = new ArrayList<>(List.of(CampaignStatus.ACTIVE, CampaignStatus.PAUSED));
+
+    /**
+     * Campaigns transitioned per statement and transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause after each full batch, leaving the database room for request traffic.
+     */
+    private Duration batchPause = Duration.ofMillis(50);
+}
@@ -0,0 +1,47 @@
+package com.portfolio.campaignmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Background purge of deleted campaigns, bound from {@code campaigns.purge.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "campaigns.purge")
+public class CampaignPurgeProperties {
+
+    /**
+     * Time between runs across all instances.
+     */
+    private Duration interval = Duration.ofSeconds(30);
+
+    /**
+     * Campaign ID ranges the purge is split into; instances purge different ranges at once.
+     */
+    private int shards = 4;
+
+    /**
+     * Metric or asset rows deleted per transaction.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Pause after each chunk, leaving the database room for request traffic.
+     */
+    private Duration chunkPause = Duration.ofMillis(100);
+
+    /**
+     * Deleted campaigns picked up per shard and run.
+     */
+    private int campaignsPerRun = 10;
+
+    /**
+     * How long the row of a purged campaign is kept as a tombstone for delta sync. Change
+     * cursors older than this are answered with a full resync.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(7);
+}
@@ -0,0 +1,117 @@
+package com.portfolio.campaignmanager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Binary response formats. Endpoints that list {@code application/cbor} or
+ * {@code application/x-jackson-smile} in their mapping's {@code produces} return the same DTOs
+ * encoded as CBOR or Smile when the Accept header asks for them, which drops the repeated
+ * field names and decimal text that dominate numeric JSON payloads. Only the dashboard
+ * endpoints declare them; every other endpoint stays JSON-only, and no endpoint reads binary
+ * request bodies.
+ *
+ * <p>The mappers are built from Spring Boot's {@link Jackson2ObjectMapperBuilder}, so they
+ * apply the same {@code spring.jackson.*} settings and modules as the JSON mapper. Spring
+ * Boot adds the converters to MVC after the JSON converter; the unrestricted ones Spring MVC
+ * would add on its own are removed.</p>
+ */
+@Configuration
+public class ContentFormatConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new DeclaredCborConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new DeclaredSmileConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Removes the unrestricted CBOR and Smile converters that Spring MVC adds by default when
+     * their Jackson modules are on the classpath, leaving only the ones declared here.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter.getClass() == MappingJackson2CborHttpMessageConverter.class
+                || converter.getClass() == MappingJackson2SmileHttpMessageConverter.class);
+    }
+
+    /**
+     * Whether the handler serving the current request lists the media type in its
+     * {@code produces}. MVC exposes those types as a request attribute once the handler
+     * has been matched.
+     */
+    private static boolean declaredByHandler(MediaType mediaType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object producible = attributes != null
+                ? attributes.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        return producible instanceof Collection<?> types && types.contains(mediaType);
+    }
+
+    private static final class DeclaredCborConverter extends MappingJackson2CborHttpMessageConverter {
+
+        private DeclaredCborConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+            return declaredByHandler(MediaType.APPLICATION_CBOR) && super.canWrite(clazz, mediaType);
+        }
+
+        @Override
+        public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+            return false;
+        }
+    }
+
+    private static final class DeclaredSmileConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        private DeclaredSmileConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+            return declaredByHandler(MediaType.valueOf(APPLICATION_SMILE_VALUE)) && super.canWrite(clazz, mediaType);
+        }
+
+        @Override
+        public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+            return false;
+        }
+    }
+}
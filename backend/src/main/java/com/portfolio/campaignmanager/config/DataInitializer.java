@@ -6,6 +6,7 @@ import com.portfolio.campaignmanager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -13,9 +14,10 @@ import java.util.UUID;
 /**
  * Data initializer to create a test user for development purposes.
  * This component runs after the application starts and creates the hardcoded user
- * if it doesn't already exist.
+ * if it doesn't already exist. Only active in the {@code dev} profile (the default).
  */
 @Component
+@Profile("dev")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
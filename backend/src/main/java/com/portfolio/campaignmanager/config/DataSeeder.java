@@ -1,5 +1,6 @@
 package com.portfolio.campaignmanager.config;
 
+import com.portfolio.campaignmanager.datagen.MetricSampler;
 import com.portfolio.campaignmanager.model.entity.Campaign;
 import com.portfolio.campaignmanager.model.entity.CampaignMetric;
 import com.portfolio.campaignmanager.repository.CampaignMetricRepository;
@@ -7,25 +8,32 @@ import com.portfolio.campaignmanager.repository.CampaignRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Data seeder to generate mock campaign metrics for analytics dashboard.
  * Creates 30 days of realistic performance data for each existing campaign.
+ * Only active in the {@code dev} profile (the default), and disabled when the synthetic
+ * data generator ({@code datagen.enabled}) is used instead.
  */
 @Component
+@Profile("dev")
+@ConditionalOnProperty(prefix = "datagen", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataSeeder implements CommandLineRunner {
 
     private final CampaignRepository campaignRepository;
     private final CampaignMetricRepository campaignMetricRepository;
-    private final Random random = new Random();
+    private final MetricSampler metricSampler = MetricSampler.standard();
+    private final SplittableRandom random = new SplittableRandom(42L);
 
     @Override
     public void run(String... args) throws Exception {
@@ -78,83 +86,21 @@ public class DataSeeder implements CommandLineRunner {
 
     /**
      * Generates realistic campaign metrics for a specific date.
-     * Maintains realistic CTR (2-8%) and conversion rates (2-10%).
      *
      * @param campaign The campaign to generate metrics for
      * @param date The date for the metrics
      * @return A realistic CampaignMetric instance
      */
     private CampaignMetric generateRealisticMetric(Campaign campaign, LocalDate date) {
-        // Base impressions: vary by campaign status and day of week
-        int baseImpressions = generateBaseImpressions(campaign, date);
-        
-        // Generate realistic click-through rate (2-8%)
-        double ctr = 0.02 + (random.nextDouble() * 0.06); // 2-8%
-        int clicks = (int) Math.round(baseImpressions * ctr);
-        
-        // Ensure minimum clicks if impressions exist
-        if (baseImpressions > 0 && clicks == 0) {
-            clicks = 1;
-        }
-        
-        // Generate realistic conversion rate (2-10% of clicks)
-        double conversionRate = 0.02 + (random.nextDouble() * 0.08); // 2-10%
-        int conversions = (int) Math.round(clicks * conversionRate);
-        
-        // Weekend effect: slightly lower performance
-        int finalImpressions;
-        int finalClicks;
-        int finalConversions;
-        
-        if (date.getDayOfWeek().getValue() >= 6) { // Saturday = 6, Sunday = 7
-            finalImpressions = (int) (baseImpressions * 0.8);
-            finalClicks = (int) (clicks * 0.8);
-            finalConversions = (int) (conversions * 0.8);
-        } else {
-            finalImpressions = baseImpressions;
-            finalClicks = clicks;
-            finalConversions = conversions;
-        }
+        MetricSampler.MetricSample sample = new MetricSampler.MetricSample();
+        metricSampler.sample(campaign.getStatus(), date, random, sample);
 
         return CampaignMetric.builder()
                 .campaign(campaign)
                 .date(date)
-                .impressions(finalImpressions)
-                .clicks(finalClicks)
-                .conversions(finalConversions)
+                .impressions(sample.impressions)
+                .clicks(sample.clicks)
+                .conversions(sample.conversions)
                 .build();
     }
-
-    /**
-     * Generates base impressions based on campaign status and randomization.
-     */
-    private int generateBaseImpressions(Campaign campaign, LocalDate date) {
-        int baseImpressions;
-        
-        switch (campaign.getStatus()) {
-            case ACTIVE:
-                // Active campaigns get higher traffic
-                baseImpressions = 3000 + random.nextInt(7000); // 3000-10000
-                break;
-            case PAUSED:
-                // Paused campaigns might have some residual traffic
-                baseImpressions = random.nextInt(500); // 0-500
-                break;
-            case COMPLETED:
-                // Completed campaigns might have historical data
-                baseImpressions = 1000 + random.nextInt(3000); // 1000-4000
-                break;
-            case DRAFT:
-            default:
-                // Draft campaigns have minimal to no traffic
-                baseImpressions = random.nextInt(100); // 0-100
-                break;
-        }
-        
-        // Add some daily variance (-20% to +20%)
-        double variance = 0.8 + (random.nextDouble() * 0.4); // 0.8 to 1.2
-        baseImpressions = (int) (baseImpressions * variance);
-        
-        return Math.max(0, baseImpressions);
-    }
 }
\ No newline at end of file
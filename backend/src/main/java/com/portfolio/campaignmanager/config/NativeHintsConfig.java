@@ -0,0 +1,184 @@
+package com.portfolio.campaignmanager.config;
+
+import com.portfolio.campaignmanager.model.dto.AssetPageResponse;
+import com.portfolio.campaignmanager.model.dto.AssetSummaryResponse;
+import com.portfolio.campaignmanager.model.dto.AuthRequest;
+import com.portfolio.campaignmanager.model.dto.AuthResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignAssetResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchCreateRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchGetRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchResult;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchUpdateItem;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchUpdateRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignChangesResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignMetricResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignPerformanceResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignSummaryResponse;
+import com.portfolio.campaignmanager.model.dto.DashboardSummaryResponse;
+import com.portfolio.campaignmanager.model.dto.RefreshTokenRequest;
+import com.portfolio.campaignmanager.model.dto.RegisterRequest;
+import com.portfolio.campaignmanager.model.entity.AssetBlob;
+import com.portfolio.campaignmanager.model.entity.AuditLogEntry;
+import com.portfolio.campaignmanager.model.entity.AssetDerivative;
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import com.portfolio.campaignmanager.model.entity.CampaignAsset;
+import com.portfolio.campaignmanager.model.entity.CampaignMetric;
+import com.portfolio.campaignmanager.model.entity.DerivativeJob;
+import com.portfolio.campaignmanager.model.entity.IdempotencyRecord;
+import com.portfolio.campaignmanager.model.entity.JobLease;
+import com.portfolio.campaignmanager.model.entity.RevokedToken;
+import com.portfolio.campaignmanager.model.entity.User;
+import com.portfolio.campaignmanager.model.enums.AuditAction;
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import com.portfolio.campaignmanager.model.enums.DerivativeJobStatus;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import com.portfolio.campaignmanager.model.enums.UserRole;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * GraalVM native-image hints for code that is reached reflectively and therefore invisible
+ * to the AOT engine. Only used by the {@code native} build; on the JVM the hints are ignored.
+ *
+ * <p>Spring Data generates the repository proxies and the JPA managed types at build time.
+ * This class adds the DTOs bound by Jackson, the entities read by Hibernate, the jjwt
+ * implementation classes (loaded by name from jjwt-api) and the AWS SDK interceptors,
+ * HTTP client services and resource files.</p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+@RegisterReflectionForBinding({
+        AuthRequest.class,
+        AuthResponse.class,
+        RegisterRequest.class,
+        RefreshTokenRequest.class,
+        CampaignRequest.class,
+        CampaignAssetResponse.class,
+        CampaignBatchGetRequest.class,
+        CampaignBatchCreateRequest.class,
+        CampaignBatchUpdateRequest.class,
+        CampaignBatchUpdateItem.class,
+        CampaignBatchResult.class,
+        CampaignBatchResponse.class,
+        CampaignChangesResponse.class,
+        AssetPageResponse.class,
+        AssetSummaryResponse.class,
+        CampaignResponse.class,
+        CampaignMetricResponse.class,
+        CampaignPerformanceResponse.class,
+        CampaignSummaryResponse.class,
+        DashboardSummaryResponse.class
+})
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> PERSISTENT_TYPES = List.of(
+                User.class, Campaign.class, CampaignAsset.class, CampaignMetric.class, AssetBlob.class,
+                AssetDerivative.class, DerivativeJob.class, RevokedToken.class, AuditLogEntry.class,
+                IdempotencyRecord.class, JobLease.class, JobLease.Key.class,
+                UserRole.class, CampaignStatus.class, DerivativeKind.class, DerivativeJobStatus.class, AuditAction.class);
+
+        /**
+         * Classes that jjwt-api instantiates or invokes by name.
+         */
+        private static final List<String> JJWT_CLASSES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        /**
+         * HTTP client implementations the AWS SDK discovers through {@code ServiceLoader}.
+         */
+        private static final List<String> AWS_HTTP_SERVICES = List.of(
+                "software.amazon.awssdk.http.apache.ApacheSdkHttpService",
+                "software.amazon.awssdk.http.nio.netty.NettySdkAsyncHttpService",
+                "software.amazon.awssdk.http.urlconnection.UrlConnectionSdkHttpService");
+
+        /**
+         * Files listing the execution interceptors the AWS SDK loads by class name.
+         */
+        private static final List<String> AWS_INTERCEPTOR_FILES = List.of(
+                "software/amazon/awssdk/global/handlers/execution.interceptors",
+                "software/amazon/awssdk/services/s3/execution.interceptors");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : PERSISTENT_TYPES) {
+                hints.reflection().registerType(type, MemberCategory.values());
+            }
+
+            for (String className : JJWT_CLASSES) {
+                hints.reflection().registerTypeIfPresent(classLoader, className,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            for (String className : AWS_HTTP_SERVICES) {
+                hints.reflection().registerTypeIfPresent(classLoader, className,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            for (String file : AWS_INTERCEPTOR_FILES) {
+                hints.resources().registerPattern(file);
+                for (String className : readClassNames(classLoader, file)) {
+                    hints.reflection().registerTypeIfPresent(classLoader, className,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+                }
+            }
+            hints.resources().registerPattern("META-INF/services/software.amazon.awssdk.*");
+            hints.resources().registerPattern("software/amazon/awssdk/**/*.json");
+        }
+
+        /**
+         * Reads the class names listed in every copy of the given resource on the classpath.
+         */
+        private static List<String> readClassNames(ClassLoader classLoader, String resource) {
+            List<String> classNames = new ArrayList<>();
+            if (classLoader == null) {
+                return classNames;
+            }
+            try {
+                Enumeration<URL> urls = classLoader.getResources(resource);
+                while (urls.hasMoreElements()) {
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(urls.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                        reader.lines()
+                                .map(String::trim)
+                                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                                .forEach(classNames::add);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + resource, e);
+            }
+            return classNames;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.portfolio.campaignmanager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Content negotiation for endpoints that write their response themselves instead of
+ * returning it to a message converter, such as the streamed metric series. Resolves the
+ * requested media types with MVC's {@link ContentNegotiationManager} and picks the first
+ * supported format, so these endpoints honor Accept exactly like the others.
+ */
+@Component
+public class ResponseFormats {
+
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final List<Format> formats;
+
+    public ResponseFormats(ContentNegotiationManager contentNegotiationManager, ObjectMapper objectMapper,
+                           MappingJackson2CborHttpMessageConverter cborConverter,
+                           MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.formats = List.of(
+                new Format(MediaType.APPLICATION_JSON, objectMapper),
+                new Format(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper()),
+                new Format(MediaType.valueOf(ContentFormatConfig.APPLICATION_SMILE_VALUE), smileConverter.getObjectMapper()));
+    }
+
+    /**
+     * Picks the response format for a request: the first supported format matching the
+     * Accept header in order of preference. Falls back to JSON, the default format.
+     *
+     * @param request The request
+     * @return The format to write the response in
+     * @throws HttpMediaTypeNotAcceptableException if the Accept header cannot be parsed
+     */
+    public Format negotiate(HttpServletRequest request) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> requested = contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
+        for (MediaType mediaType : requested) {
+            for (Format format : formats) {
+                if (mediaType.isCompatibleWith(format.getMediaType())) {
+                    return format;
+                }
+            }
+        }
+        return formats.get(0);
+    }
+
+    /**
+     * A response media type and the mapper that writes it.
+     */
+    @Value
+    public static class Format {
+
+        MediaType mediaType;
+
+        ObjectMapper objectMapper;
+    }
+}
@@ -0,0 +1,70 @@
+package com.portfolio.campaignmanager.config;
+
+import com.portfolio.campaignmanager.storage.StorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Utilities;
+
+import java.net.URI;
+
+/**
+ * S3 client configuration, active when assets are stored in S3 ({@code storage.type=s3}).
+ * Uses the configured access keys if present and the default AWS credentials chain otherwise.
+ *
+ * <p>The async client is built on the AWS Common Runtime, which keeps a pool of connections
+ * sized to {@code storage.upload-concurrency} so that parts of one upload travel over
+ * separate connections.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3")
+public class S3Config {
+
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(AwsProperties awsProperties, StorageProperties storageProperties) {
+        S3CrtAsyncClientBuilder builder = S3AsyncClient.crtBuilder()
+                .region(Region.of(awsProperties.getS3().getRegion()))
+                .credentialsProvider(credentialsProvider(awsProperties))
+                .forcePathStyle(awsProperties.getS3().isPathStyleAccess())
+                .maxConcurrency(storageProperties.getUploadConcurrency())
+                .minimumPartSizeInBytes(storageProperties.getPartSize().toBytes());
+
+        if (StringUtils.hasText(awsProperties.getS3().getEndpoint())) {
+            builder.endpointOverride(URI.create(awsProperties.getS3().getEndpoint()));
+        }
+
+        return builder.build();
+    }
+
+    @Bean
+    public S3Utilities s3Utilities(AwsProperties awsProperties) {
+        S3Utilities.Builder builder = S3Utilities.builder()
+                .region(Region.of(awsProperties.getS3().getRegion()))
+                .s3Configuration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(awsProperties.getS3().isPathStyleAccess())
+                        .build());
+
+        if (StringUtils.hasText(awsProperties.getS3().getEndpoint())) {
+            builder.endpoint(URI.create(awsProperties.getS3().getEndpoint()));
+        }
+
+        return builder.build();
+    }
+
+    private AwsCredentialsProvider credentialsProvider(AwsProperties properties) {
+        if (StringUtils.hasText(properties.getAccessKeyId())) {
+            return StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(properties.getAccessKeyId(), properties.getSecretAccessKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+}
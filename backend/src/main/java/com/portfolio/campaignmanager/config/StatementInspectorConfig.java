@@ -0,0 +1,20 @@
+package com.portfolio.campaignmanager.config;
+
+import com.portfolio.campaignmanager.monitoring.CountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the statement-counting inspector with Hibernate.
+ * Counting only takes effect on threads where a {@code StatementCounter} is active.
+ */
+@Configuration
+public class StatementInspectorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+}
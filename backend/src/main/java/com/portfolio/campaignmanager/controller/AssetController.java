@@ -0,0 +1,276 @@
+package com.portfolio.campaignmanager.controller;
+
+import com.portfolio.campaignmanager.model.dto.AssetPageResponse;
+import com.portfolio.campaignmanager.model.dto.AssetSummaryResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignAssetResponse;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import com.portfolio.campaignmanager.service.AssetContent;
+import com.portfolio.campaignmanager.service.AssetService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST controller for campaign asset operations.
+ * Uploads take the raw file as the request body so it can be streamed to storage
+ * without being buffered in memory or spooled to disk. Downloads are served from the
+ * local asset cache, using sendfile where the container supports it.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class AssetController {
+    
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    private final AssetService assetService;
+    
+    /**
+     * Uploads an asset for a campaign. The request body is the file content and the
+     * Content-Type header its MIME type. Clients may declare the content's SHA-256 in the
+     * {@code X-Content-SHA256} header; if the user already uploaded that content, the body
+     * is not read.
+     *
+     * @param campaignId The ID of the campaign
+     * @param fileName Original file name
+     * @param contentSha256 Optional hex SHA-256 of the content
+     * @param request The HTTP request carrying the file content
+     * @return ResponseEntity containing the stored asset details
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(path = "/campaigns/{campaignId}/assets", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<CampaignAssetResponse> uploadAsset(
+            @PathVariable UUID campaignId,
+            @RequestParam String fileName,
+            @RequestHeader(value = "X-Content-SHA256", required = false) String contentSha256,
+            HttpServletRequest request) throws IOException {
+        
+        String contentType = request.getContentType() != null
+                ? request.getContentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        log.info("Uploading asset {} ({}, {} bytes) for campaign {}",
+                fileName, contentType, request.getContentLengthLong(), campaignId);
+        
+        CampaignAssetResponse response = assetService.uploadAsset(
+                campaignId, fileName, contentType, request.getContentLengthLong(), contentSha256,
+                request.getInputStream());
+        
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+    
+    /**
+     * Retrieves one page of a campaign's assets. Pages are addressed by cursor rather than
+     * offset: pass the returned {@code nextCursor} as {@code cursor} with the same sort to get
+     * the next page.
+     *
+     * @param campaignId The ID of the campaign
+     * @param fileType Optional MIME type or prefix filter, e.g. {@code image/}
+     * @param sort Sort field: {@code uploadedAt} (default) or {@code fileSize}
+     * @param direction Sort direction: {@code desc} (default) or {@code asc}
+     * @param cursor Cursor of the page to fetch; omit for the first page
+     * @param limit Maximum number of assets per page
+     * @return ResponseEntity containing the page of assets
+     */
+    @GetMapping("/campaigns/{campaignId}/assets")
+    public ResponseEntity<AssetPageResponse> getAssets(
+            @PathVariable UUID campaignId,
+            @RequestParam(required = false) String fileType,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("Retrieving assets for campaign: {}", campaignId);
+        
+        return ResponseEntity.ok(assetService.getAssets(campaignId, fileType, sort, direction, cursor, limit));
+    }
+    
+    /**
+     * Retrieves the newest assets of several campaigns in one request, for campaign grids.
+     *
+     * @param campaignIds The IDs of the campaigns
+     * @param perCampaign Maximum number of assets per campaign
+     * @return ResponseEntity containing asset summaries by campaign ID
+     */
+    @GetMapping("/assets")
+    public ResponseEntity<Map<UUID, List<AssetSummaryResponse>>> getAssetSummaries(
+            @RequestParam List<UUID> campaignIds,
+            @RequestParam(defaultValue = "12") int perCampaign) {
+        log.debug("Retrieving asset summaries for {} campaigns", campaignIds.size());
+        
+        return ResponseEntity.ok(assetService.getAssetSummaries(campaignIds, perCampaign));
+    }
+    
+    /**
+     * Deletes an asset.
+     *
+     * @param assetId The ID of the asset to delete
+     * @return ResponseEntity with no content
+     */
+    @DeleteMapping("/assets/{assetId}")
+    public ResponseEntity<Void> deleteAsset(@PathVariable UUID assetId) {
+        log.info("Deleting asset with id: {}", assetId);
+        
+        assetService.deleteAsset(assetId);
+        
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+    
+    /**
+     * Downloads an asset's content. Supports a single byte range ({@code Range: bytes=a-b}),
+     * answered with 206 Partial Content; requests for several ranges get the full content.
+     *
+     * <p>The content is served from the local cache. When Tomcat supports sendfile the file is
+     * handed to the connector and copied by the kernel after this method returns, without
+     * passing through the heap. Otherwise it is written with {@link FileChannel#transferTo}
+     * to the response stream, which the JDK copies through an intermediate heap buffer.</p>
+     *
+     * @param assetId The ID of the asset
+     * @param request The HTTP request
+     * @param response The HTTP response the content is written to
+     * @throws IOException if the content cannot be written
+     */
+    @GetMapping("/assets/{assetId}/content")
+    public void downloadAsset(@PathVariable UUID assetId,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        log.debug("Downloading asset: {}", assetId);
+        
+        serve(assetService.openAssetContent(assetId), request, response);
+    }
+    
+    /**
+     * Downloads an asset's thumbnail, served like {@link #downloadAsset}.
+     *
+     * @param assetId The ID of the asset
+     * @param request The HTTP request
+     * @param response The HTTP response the thumbnail is written to
+     * @throws IOException if the content cannot be written
+     */
+    @GetMapping("/assets/{assetId}/thumbnail")
+    public void downloadThumbnail(@PathVariable UUID assetId,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        log.debug("Downloading thumbnail of asset: {}", assetId);
+        
+        serve(assetService.openDerivativeContent(assetId, DerivativeKind.THUMBNAIL), request, response);
+    }
+    
+    /**
+     * Downloads an asset's web preview, served like {@link #downloadAsset}.
+     *
+     * @param assetId The ID of the asset
+     * @param request The HTTP request
+     * @param response The HTTP response the preview is written to
+     * @throws IOException if the content cannot be written
+     */
+    @GetMapping("/assets/{assetId}/preview")
+    public void downloadPreview(@PathVariable UUID assetId,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        log.debug("Downloading preview of asset: {}", assetId);
+        
+        serve(assetService.openDerivativeContent(assetId, DerivativeKind.PREVIEW), request, response);
+    }
+    
+    /**
+     * Writes cached content to the response, honouring a single byte range, and closes it.
+     */
+    private void serve(AssetContent content,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        try {
+            long size = content.getSize();
+            long start = 0;
+            long end = size - 1;
+            
+            List<HttpRange> ranges = parseRanges(request.getHeader(HttpHeaders.RANGE));
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+                if (size == 0 || start >= size) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            } else {
+                response.setStatus(HttpStatus.OK.value());
+            }
+            
+            long length = end - start + 1;
+            response.setContentType(content.getContentType());
+            response.setContentLengthLong(length);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                    .filename(content.getFileName(), StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+            if (content.getChecksumSha256() != null) {
+                response.setHeader(HttpHeaders.ETAG, "\"" + content.getChecksumSha256() + "\"");
+            }
+            
+            if (length == 0 || "HEAD".equals(request.getMethod())) {
+                return;
+            }
+            
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // Tomcat sends the file after the response is committed. The lease is
+                // released now, which is safe: eviction spares recently served files.
+                request.setAttribute(SENDFILE_FILENAME, content.getPath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            
+            // Not zero-copy: the target is a wrapped servlet stream, so the JDK copies through a buffer
+            try (FileChannel file = FileChannel.open(content.getPath(), StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long sent = file.transferTo(position, remaining, out);
+                    position += sent;
+                    remaining -= sent;
+                }
+            }
+        } finally {
+            content.close();
+        }
+    }
+    
+    private static List<HttpRange> parseRanges(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            // Malformed or unsupported ranges are ignored and the full content is served
+            return List.of();
+        }
+    }
+}
@@ -2,18 +2,20 @@ package com.portfolio.campaignmanager.controller;
 
 import com.portfolio.campaignmanager.model.dto.AuthRequest;
 import com.portfolio.campaignmanager.model.dto.AuthResponse;
+import com.portfolio.campaignmanager.model.dto.RefreshTokenRequest;
 import com.portfolio.campaignmanager.model.dto.RegisterRequest;
 import com.portfolio.campaignmanager.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 /**
  * REST controller for authentication endpoints.
- * Handles user registration and login requests.
+ * Handles user registration, login, token refresh and logout requests.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -54,4 +56,32 @@ public class AuthController {
         log.info("User logged in successfully: {}", response.getEmail());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Exchange a refresh token for new access and refresh tokens.
+     *
+     * @param request Request containing the refresh token
+     * @return AuthResponse with new JWT tokens and user information
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    /**
+     * Revoke the bearer access token and the refresh token in the body.
+     *
+     * @param authorization Authorization header with the access token, if any
+     * @param request Request containing the refresh token, if any
+     * @return Empty response
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+}
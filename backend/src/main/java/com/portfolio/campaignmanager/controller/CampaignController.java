@@ -1,18 +1,27 @@
 package com.portfolio.campaignmanager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchCreateRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchGetRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchUpdateRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignChangesResponse;
 import com.portfolio.campaignmanager.model.dto.CampaignRequest;
 import com.portfolio.campaignmanager.model.dto.CampaignResponse;
 import com.portfolio.campaignmanager.model.dto.CampaignSummaryResponse;
 import com.portfolio.campaignmanager.model.enums.CampaignStatus;
 import com.portfolio.campaignmanager.service.CampaignService;
+import com.portfolio.campaignmanager.util.JsonArrayWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.UUID;
 
 /**
@@ -26,6 +35,7 @@ import java.util.UUID;
 public class CampaignController {
     
     private final CampaignService campaignService;
+    private final ObjectMapper objectMapper;
     
     /**
      * Creates a new campaign.
@@ -42,27 +52,93 @@ public class CampaignController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
     
+    /**
+     * Retrieves many campaigns at once, with one result per requested ID.
+     *
+     * @param request IDs of the campaigns, at most 500
+     * @return ResponseEntity containing the per-item results
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<CampaignBatchResponse> batchGetCampaigns(@Valid @RequestBody CampaignBatchGetRequest request) {
+        log.debug("Batch retrieving {} campaigns", request.getIds().size());
+        
+        CampaignBatchResponse response = campaignService.batchGetCampaigns(request);
+        
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
+    /**
+     * Creates many campaigns in one transaction, with one result per item.
+     *
+     * @param request The campaigns to create, at most 500
+     * @return ResponseEntity containing the per-item results
+     */
+    @PostMapping("/batch-create")
+    public ResponseEntity<CampaignBatchResponse> batchCreateCampaigns(
+            @Valid @RequestBody CampaignBatchCreateRequest request) {
+        log.info("Batch creating {} campaigns", request.getItems().size());
+        
+        CampaignBatchResponse response = campaignService.batchCreateCampaigns(request);
+        
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
+    /**
+     * Updates many campaigns in one transaction, with one result per item.
+     * Only the fields set in an item are changed.
+     *
+     * @param request The updates, at most 500
+     * @return ResponseEntity containing the per-item results
+     */
+    @PostMapping("/batch-update")
+    public ResponseEntity<CampaignBatchResponse> batchUpdateCampaigns(
+            @Valid @RequestBody CampaignBatchUpdateRequest request) {
+        log.info("Batch updating {} campaigns", request.getItems().size());
+        
+        CampaignBatchResponse response = campaignService.batchUpdateCampaigns(request);
+        
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     /**
      * Retrieves all campaigns for the user, optionally filtered by status.
+     * The JSON array is written while the campaigns are read, so large accounts
+     * neither buffer their whole list nor wait for it before the first byte.
      *
      * @param status Optional status filter
-     * @return ResponseEntity containing the list of campaigns
+     * @param response The response the campaigns are written to
      */
     @GetMapping
-    public ResponseEntity<List<CampaignSummaryResponse>> getCampaigns(
-            @RequestParam(required = false) CampaignStatus status) {
+    public void getCampaigns(
+            @RequestParam(required = false) CampaignStatus status,
+            HttpServletResponse response) throws IOException {
         
         log.debug("Retrieving campaigns with status filter: {}", status);
         
-        List<CampaignSummaryResponse> campaigns;
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonArrayWriter<CampaignSummaryResponse> campaigns =
+                new JsonArrayWriter<>(objectMapper, CampaignSummaryResponse.class, response.getOutputStream());
+        campaignService.streamCampaigns(status, campaigns);
+        campaigns.finish();
+    }
+    
+    /**
+     * Retrieves the campaigns created, updated or deleted since a change cursor.
+     *
+     * @param since Cursor returned by the previous call; omit for a full snapshot
+     * @param limit Maximum number of changes
+     * @return ResponseEntity containing the changes and the next cursor
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<CampaignChangesResponse> getCampaignChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        
+        log.debug("Retrieving campaign changes since cursor: {}", since);
         
-        if (status != null) {
-            campaigns = campaignService.getCampaignsByStatus(status);
-        } else {
-            campaigns = campaignService.getAllCampaigns();
-        }
+        CampaignChangesResponse response = campaignService.getCampaignChanges(since, limit);
         
-        return new ResponseEntity<>(campaigns, HttpStatus.OK);
+        return new ResponseEntity<>(response, HttpStatus.OK);
     }
     
     /**
@@ -1,5 +1,7 @@
 package com.portfolio.campaignmanager.controller;
 
+import com.portfolio.campaignmanager.config.ContentFormatConfig;
+import com.portfolio.campaignmanager.config.ResponseFormats;
 import com.portfolio.campaignmanager.exception.ResourceNotFoundException;
 import com.portfolio.campaignmanager.exception.UnauthorizedException;
 import com.portfolio.campaignmanager.model.dto.CampaignMetricResponse;
@@ -8,15 +10,21 @@ import com.portfolio.campaignmanager.model.dto.DashboardSummaryResponse;
 import com.portfolio.campaignmanager.model.entity.User;
 import com.portfolio.campaignmanager.repository.UserRepository;
 import com.portfolio.campaignmanager.service.DashboardService;
+import com.portfolio.campaignmanager.util.JsonArrayWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -24,9 +32,15 @@ import java.util.UUID;
 /**
  * REST controller for dashboard analytics endpoints.
  * Provides aggregated campaign metrics and performance data.
+ * Responses are JSON by default, or CBOR or Smile when the Accept header asks for them;
+ * these are the only endpoints that declare the binary formats.
  */
 @RestController
-@RequestMapping("/api/dashboard")
+@RequestMapping(path = "/api/dashboard", produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        ContentFormatConfig.APPLICATION_SMILE_VALUE
+})
 @RequiredArgsConstructor
 @Slf4j
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -34,6 +48,7 @@ public class DashboardController {
 
     private final DashboardService dashboardService;
     private final UserRepository userRepository;
+    private final ResponseFormats responseFormats;
 
     /**
      * Gets dashboard summary statistics for the authenticated user.
@@ -56,29 +71,36 @@ public class DashboardController {
 
     /**
      * Gets metrics for a specific campaign within a date range.
-     * Returns daily performance data for visualization.
+     * Returns daily performance data for visualization, written to the response
+     * while it is read so long ranges are never buffered. Honors Accept for JSON,
+     * CBOR and Smile like the other dashboard endpoints.
      *
      * @param campaignId The campaign UUID
      * @param startDate Start date (optional, defaults to 30 days ago)
      * @param endDate End date (optional, defaults to today)
-     * @return List of daily metrics for the date range
+     * @param request The request, whose Accept header selects the format
+     * @param response The response the daily metrics are written to
      */
     @GetMapping("/campaigns/{campaignId}/metrics")
-    public ResponseEntity<List<CampaignMetricResponse>> getCampaignMetrics(
+    public void getCampaignMetrics(
             @PathVariable UUID campaignId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
         
         UUID userId = getCurrentUserId();
         log.info("Getting metrics for campaign: {}, user: {}, date range: {} to {}", 
                 campaignId, userId, startDate, endDate);
 
-        List<CampaignMetricResponse> metrics = dashboardService.getCampaignMetrics(
-                campaignId, userId, startDate, endDate);
-        
-        log.debug("Retrieved {} metrics for campaign: {}", metrics.size(), campaignId);
+        ResponseFormats.Format format = responseFormats.negotiate(request);
+        response.setContentType(format.getMediaType().toString());
+        JsonArrayWriter<CampaignMetricResponse> metrics = new JsonArrayWriter<>(
+                format.getObjectMapper(), CampaignMetricResponse.class, response.getOutputStream());
+        dashboardService.streamCampaignMetrics(campaignId, userId, startDate, endDate, metrics);
+        metrics.finish();
         
-        return ResponseEntity.ok(metrics);
+        log.debug("Retrieved {} metrics for campaign: {}", metrics.count(), campaignId);
     }
 
     /**
@@ -0,0 +1,86 @@
+package com.portfolio.campaignmanager.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes rows in PostgreSQL COPY text format (tab-separated, newline-terminated).
+ * Rows are staged in a fixed-size character buffer and flushed to the COPY stream when it fills,
+ * so memory use does not depend on the number of rows written.
+ *
+ * <p>Values must not contain tabs, newlines or backslashes; the generator only emits such values.</p>
+ */
+class CopyRowWriter {
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final OutputStream out;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private boolean firstColumn = true;
+    private long rows;
+
+    CopyRowWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    CopyRowWriter value(String value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyRowWriter value(UUID value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyRowWriter value(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyRowWriter value(LocalDate value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyRowWriter value(LocalDateTime value) {
+        separator();
+        buffer.append(value.toLocalDate()).append(' ').append(value.toLocalTime());
+        return this;
+    }
+
+    void endRow() throws IOException {
+        buffer.append('\n');
+        firstColumn = true;
+        rows++;
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    void flush() throws IOException {
+        if (buffer.length() > 0) {
+            out.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+            buffer.setLength(0);
+        }
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    private void separator() {
+        if (!firstColumn) {
+            buffer.append('\t');
+        }
+        firstColumn = false;
+    }
+}
@@ -0,0 +1,87 @@
+package com.portfolio.campaignmanager.datagen;
+
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Profile for the synthetic data generator, bound from {@code datagen.*} properties.
+ * The generated volume is {@code users x campaignsPerUser x days} metric rows.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datagen")
+public class DataGenerationProperties {
+
+    /**
+     * Runs the generator on startup instead of the development {@code DataSeeder}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Stops the application once generation has finished.
+     */
+    private boolean exitOnCompletion = false;
+
+    /**
+     * Seed for all generated values. The same seed and profile always produce the same rows.
+     */
+    private long seed = 42L;
+
+    private int users = 100;
+
+    private int campaignsPerUser = 10;
+
+    /**
+     * Number of days of metrics per campaign, ending at {@link #endDate}.
+     */
+    private int days = 365;
+
+    /**
+     * Last day with metrics. Defaults to today; set it explicitly for reproducible datasets.
+     */
+    private LocalDate endDate;
+
+    /**
+     * Relative weight of each campaign status.
+     */
+    private Map<CampaignStatus, Integer> statusMix = defaultStatusMix();
+
+    private double weekendFactor = 0.8;
+
+    /**
+     * Relative swing of the yearly traffic curve, e.g. 0.25 for +/-25%.
+     */
+    private double seasonalityAmplitude = 0.25;
+
+    private int seasonalityPeakDayOfYear = 335;
+
+    /**
+     * Plain-text password shared by all generated users.
+     */
+    private String password = "password";
+
+    /**
+     * Parallel generator threads, each streaming through its own connection.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Users generated and committed per COPY transaction.
+     */
+    private int usersPerChunk = 100;
+
+    private static Map<CampaignStatus, Integer> defaultStatusMix() {
+        Map<CampaignStatus, Integer> mix = new EnumMap<>(CampaignStatus.class);
+        mix.put(CampaignStatus.ACTIVE, 40);
+        mix.put(CampaignStatus.PAUSED, 15);
+        mix.put(CampaignStatus.COMPLETED, 30);
+        mix.put(CampaignStatus.DRAFT, 15);
+        return mix;
+    }
+}
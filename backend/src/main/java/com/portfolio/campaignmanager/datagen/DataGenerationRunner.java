@@ -0,0 +1,34 @@
+package com.portfolio.campaignmanager.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the synthetic data generator on startup when {@code datagen.enabled=true}.
+ * Example: {@code mvn spring-boot:run -Dspring-boot.run.arguments="--datagen.enabled=true --datagen.users=10000 --datagen.exit-on-completion=true"}
+ */
+@Component
+@ConditionalOnProperty(prefix = "datagen", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class DataGenerationRunner implements CommandLineRunner {
+
+    private final SyntheticDataGenerator generator;
+    private final DataGenerationProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(String... args) {
+        generator.generate(properties);
+
+        if (properties.isExitOnCompletion()) {
+            log.info("Synthetic data generation finished. Shutting down.");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
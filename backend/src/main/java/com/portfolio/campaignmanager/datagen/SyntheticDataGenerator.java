@@ -0,0 +1,327 @@
+package com.portfolio.campaignmanager.datagen;
+
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import com.portfolio.campaignmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates large synthetic datasets of users, campaigns and daily metrics.
+ *
+ * <p>Users are split into chunks that are generated in parallel. Each chunk streams its rows
+ * into PostgreSQL with {@code COPY ... FROM STDIN} over its own connection and commits once,
+ * so memory use stays constant regardless of the dataset size.</p>
+ *
+ * <p>Every user, campaign and metric series draws from its own {@link SplittableRandom} seeded
+ * from the profile seed and the entity's position, so output is identical for the same seed and
+ * profile no matter how many threads run or in which order chunks complete.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final String USERS_COPY =
+            "COPY users (id, email, password, name, role, created_at) FROM STDIN";
+    private static final String CAMPAIGNS_COPY =
+            "COPY campaigns (id, name, description, budget, start_date, end_date, target_audience, status, "
+                    + "created_at, updated_at, user_id) FROM STDIN";
+    private static final String METRICS_COPY =
+            "COPY campaign_metrics (id, campaign_id, impressions, clicks, conversions, date) FROM STDIN";
+
+    private static final int COPY_BUFFER_SIZE = 256 * 1024;
+
+    private static final long SALT_USER = 0x5553L;
+    private static final long SALT_CAMPAIGN = 0x4341L;
+    private static final long SALT_METRICS = 0x4D45L;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+
+    /**
+     * Generates the dataset described by the profile.
+     * Skips generation if the first generated user already exists.
+     *
+     * @param profile The generation profile
+     */
+    public void generate(DataGenerationProperties profile) {
+        if (userRepository.existsByEmail(email(0))) {
+            log.info("Synthetic data already present ({} exists). Skipping generation.", email(0));
+            return;
+        }
+
+        GenerationPlan plan = new GenerationPlan(profile, passwordEncoder.encode(profile.getPassword()));
+        log.info("Generating {} users x {} campaigns x {} days ({} metric rows) from {} to {} with seed {} on {} threads",
+                profile.getUsers(), profile.getCampaignsPerUser(), profile.getDays(),
+                (long) profile.getUsers() * profile.getCampaignsPerUser() * profile.getDays(),
+                plan.startDate, plan.endDate, profile.getSeed(), profile.getThreads());
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, profile.getThreads()));
+        try {
+            List<Future<long[]>> chunks = new ArrayList<>();
+            for (int from = 0; from < profile.getUsers(); from += profile.getUsersPerChunk()) {
+                int fromUser = from;
+                int toUser = Math.min(profile.getUsers(), from + profile.getUsersPerChunk());
+                chunks.add(executor.submit(() -> generateChunk(plan, fromUser, toUser)));
+            }
+
+            long[] totals = new long[3];
+            for (Future<long[]> chunk : chunks) {
+                long[] counts = chunk.get();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += counts[i];
+                }
+            }
+
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            log.info("Generated {} users, {} campaigns and {} metrics in {} s ({} metric rows/s)",
+                    totals[0], totals[1], totals[2], String.format("%.1f", seconds),
+                    String.format("%.0f", totals[2] / Math.max(seconds, 0.001)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Synthetic data generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Email address of the generated user at the given position.
+     */
+    public static String email(int user) {
+        return "datagen-user-" + user + "@example.com";
+    }
+
+    /**
+     * ID of the generated user at the given position.
+     */
+    public static UUID userId(long seed, int user) {
+        return randomUuid(new SplittableRandom(mix(seed, user, 0, SALT_USER)));
+    }
+
+    /**
+     * ID of the given campaign of the given user, matching what {@link #generate} writes.
+     */
+    public static UUID campaignId(long seed, int user, int campaign) {
+        return randomUuid(campaignRandom(seed, user, campaign));
+    }
+
+    /**
+     * Generates and commits one chunk of users with their campaigns and metrics.
+     *
+     * @return Row counts for users, campaigns and metrics
+     */
+    private long[] generateChunk(GenerationPlan plan, int fromUser, int toUser) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                long users = copy(pgConnection, USERS_COPY, writer -> writeUsers(plan, fromUser, toUser, writer));
+                long campaigns = copy(pgConnection, CAMPAIGNS_COPY, writer -> writeCampaigns(plan, fromUser, toUser, writer));
+                long metrics = copy(pgConnection, METRICS_COPY, writer -> writeMetrics(plan, fromUser, toUser, writer));
+                connection.commit();
+
+                log.debug("Generated users {}-{}: {} campaigns, {} metrics", fromUser, toUser - 1, campaigns, metrics);
+                return new long[]{users, campaigns, metrics};
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private long copy(PGConnection connection, String sql, RowSource source) throws SQLException, IOException {
+        try (PGCopyOutputStream out = new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE)) {
+            CopyRowWriter writer = new CopyRowWriter(out);
+            source.write(writer);
+            writer.flush();
+            return writer.rows();
+        }
+    }
+
+    private void writeUsers(GenerationPlan plan, int fromUser, int toUser, CopyRowWriter writer) throws IOException {
+        LocalDateTime createdAt = plan.startDate.minusDays(30).atStartOfDay();
+        for (int user = fromUser; user < toUser; user++) {
+            writer.value(userId(plan.seed, user))
+                    .value(email(user))
+                    .value(plan.passwordHash)
+                    .value("Generated User " + user)
+                    .value("USER")
+                    .value(createdAt)
+                    .endRow();
+        }
+    }
+
+    private void writeCampaigns(GenerationPlan plan, int fromUser, int toUser, CopyRowWriter writer) throws IOException {
+        for (int user = fromUser; user < toUser; user++) {
+            UUID userId = userId(plan.seed, user);
+            for (int campaign = 0; campaign < plan.campaignsPerUser; campaign++) {
+                CampaignSpec spec = plan.describe(user, campaign);
+                writer.value(spec.id)
+                        .value("Campaign " + user + "-" + campaign)
+                        .value("Synthetic " + spec.status.name().toLowerCase() + " campaign")
+                        .value(spec.budget)
+                        .value(spec.startDate)
+                        .value(spec.endDate)
+                        .value("Segment " + spec.segment)
+                        .value(spec.status.name())
+                        .value(spec.createdAt)
+                        .value(spec.createdAt)
+                        .value(userId)
+                        .endRow();
+            }
+        }
+    }
+
+    private void writeMetrics(GenerationPlan plan, int fromUser, int toUser, CopyRowWriter writer) throws IOException {
+        MetricSampler.MetricSample sample = new MetricSampler.MetricSample();
+        for (int user = fromUser; user < toUser; user++) {
+            for (int campaign = 0; campaign < plan.campaignsPerUser; campaign++) {
+                CampaignSpec spec = plan.describe(user, campaign);
+                SplittableRandom random = new SplittableRandom(mix(plan.seed, user, campaign, SALT_METRICS));
+                for (LocalDate date = plan.startDate; !date.isAfter(plan.endDate); date = date.plusDays(1)) {
+                    plan.sampler.sample(spec.status, date, random, sample);
+                    writer.value(randomUuid(random))
+                            .value(spec.id)
+                            .value(sample.impressions)
+                            .value(sample.clicks)
+                            .value(sample.conversions)
+                            .value(date)
+                            .endRow();
+                }
+            }
+        }
+    }
+
+    private static SplittableRandom campaignRandom(long seed, int user, int campaign) {
+        return new SplittableRandom(mix(seed, user, campaign, SALT_CAMPAIGN));
+    }
+
+    /**
+     * Builds a version 4 UUID from the next two random longs.
+     */
+    private static UUID randomUuid(SplittableRandom random) {
+        long most = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    /**
+     * Derives an independent seed from the profile seed and an entity position.
+     */
+    private static long mix(long seed, long a, long b, long salt) {
+        long h = stafford(seed ^ (a * 0x9E3779B97F4A7C15L));
+        h = stafford(h ^ (b * 0xC2B2AE3D27D4EB4FL));
+        return stafford(h ^ salt);
+    }
+
+    private static long stafford(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void write(CopyRowWriter writer) throws IOException;
+    }
+
+    /**
+     * Immutable values derived once from the profile and shared by all generator threads.
+     */
+    private static final class GenerationPlan {
+        final long seed;
+        final int campaignsPerUser;
+        final int days;
+        final LocalDate startDate;
+        final LocalDate endDate;
+        final String passwordHash;
+        final MetricSampler sampler;
+        final CampaignStatus[] statuses;
+        final int[] cumulativeStatusWeights;
+
+        GenerationPlan(DataGenerationProperties profile, String passwordHash) {
+            this.seed = profile.getSeed();
+            this.campaignsPerUser = profile.getCampaignsPerUser();
+            this.days = profile.getDays();
+            this.endDate = profile.getEndDate() != null ? profile.getEndDate() : LocalDate.now();
+            this.startDate = endDate.minusDays(profile.getDays() - 1L);
+            this.passwordHash = passwordHash;
+            this.sampler = new MetricSampler(profile.getWeekendFactor(), profile.getSeasonalityAmplitude(),
+                    profile.getSeasonalityPeakDayOfYear());
+
+            this.statuses = CampaignStatus.values();
+            this.cumulativeStatusWeights = new int[statuses.length];
+            int total = 0;
+            for (int i = 0; i < statuses.length; i++) {
+                total += Math.max(0, profile.getStatusMix().getOrDefault(statuses[i], 0));
+                cumulativeStatusWeights[i] = total;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("datagen.status-mix must contain at least one positive weight");
+            }
+        }
+
+        /**
+         * Recreates the campaign attributes for a position. Both the campaign and metric COPY
+         * phases call this, so it must consume the campaign random in a fixed order.
+         */
+        CampaignSpec describe(int user, int campaign) {
+            SplittableRandom random = campaignRandom(seed, user, campaign);
+            CampaignSpec spec = new CampaignSpec();
+            spec.id = randomUuid(random);
+
+            int roll = random.nextInt(cumulativeStatusWeights[cumulativeStatusWeights.length - 1]);
+            int index = 0;
+            while (roll >= cumulativeStatusWeights[index]) {
+                index++;
+            }
+            spec.status = statuses[index];
+
+            spec.budget = 500 + random.nextInt(99_500);
+            spec.startDate = startDate.plusDays(random.nextInt(Math.max(1, days / 4)));
+            spec.endDate = spec.status == CampaignStatus.COMPLETED
+                    ? endDate.minusDays(random.nextInt(Math.max(1, days / 4)))
+                    : endDate.plusDays(30 + random.nextInt(90));
+            if (spec.endDate.isBefore(spec.startDate)) {
+                spec.endDate = spec.startDate;
+            }
+            spec.createdAt = startDate.minusDays(random.nextInt(30)).atStartOfDay();
+            spec.segment = random.nextInt(20);
+            return spec;
+        }
+    }
+
+    private static final class CampaignSpec {
+        UUID id;
+        CampaignStatus status;
+        long budget;
+        LocalDate startDate;
+        LocalDate endDate;
+        LocalDateTime createdAt;
+        int segment;
+    }
+}
@@ -0,0 +1,61 @@
+package com.portfolio.campaignmanager.derivative;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Derivative generation settings, bound from {@code derivatives.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "derivatives")
+public class DerivativeProperties {
+
+    /**
+     * Whether uploads of image assets enqueue derivative generation.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Worker threads generating derivatives on this instance.
+     */
+    private int workers = 2;
+
+    /**
+     * Longest edge of thumbnails, in pixels.
+     */
+    private int thumbnailSize = 320;
+
+    /**
+     * Longest edge of web previews, in pixels.
+     */
+    private int previewSize = 1280;
+
+    /**
+     * JPEG quality of derivatives without transparency, between 0 and 1.
+     */
+    private float jpegQuality = 0.82f;
+
+    /**
+     * Largest source image accepted, in pixels. Larger images are not decoded.
+     */
+    private long maxSourcePixels = 100_000_000L;
+
+    /**
+     * Attempts per job before it is marked failed.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Time a claimed job may run before another worker may claim it again.
+     */
+    private Duration lease = Duration.ofMinutes(10);
+
+    /**
+     * Delay before the first retry of a failed job; doubles with every attempt.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(30);
+}
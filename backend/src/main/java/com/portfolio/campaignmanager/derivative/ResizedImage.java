@@ -0,0 +1,29 @@
+package com.portfolio.campaignmanager.derivative;
+
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * An encoded derivative produced by {@link ImageResizer}.
+ */
+@Data
+@AllArgsConstructor
+public class ResizedImage {
+
+    private DerivativeKind kind;
+
+    /**
+     * Encoded image.
+     */
+    private byte[] content;
+
+    /**
+     * MIME type of the encoding: {@code image/jpeg}, or {@code image/png} for images with transparency.
+     */
+    private String contentType;
+
+    private int width;
+
+    private int height;
+}
@@ -0,0 +1,27 @@
+package com.portfolio.campaignmanager.exception;
+
+/**
+ * Exception thrown when an asset cannot be written to or read from object storage.
+ * This typically results in a 502 BAD GATEWAY HTTP response.
+ */
+public class AssetStorageException extends RuntimeException {
+    
+    /**
+     * Creates a new AssetStorageException with the specified message.
+     *
+     * @param message The detail message explaining the storage failure
+     */
+    public AssetStorageException(String message) {
+        super(message);
+    }
+    
+    /**
+     * Creates a new AssetStorageException with a message and cause.
+     *
+     * @param message The detail message explaining the storage failure
+     * @param cause The root cause of the exception
+     */
+    public AssetStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
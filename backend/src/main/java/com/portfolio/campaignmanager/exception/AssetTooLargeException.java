@@ -0,0 +1,17 @@
+package com.portfolio.campaignmanager.exception;
+
+/**
+ * Exception thrown when an uploaded asset exceeds the configured maximum size.
+ * This typically results in a 413 PAYLOAD TOO LARGE HTTP response.
+ */
+public class AssetTooLargeException extends RuntimeException {
+    
+    /**
+     * Creates a new AssetTooLargeException with the specified message.
+     *
+     * @param message The detail message including the size limit
+     */
+    public AssetTooLargeException(String message) {
+        super(message);
+    }
+}
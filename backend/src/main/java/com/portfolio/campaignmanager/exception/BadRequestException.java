@@ -0,0 +1,17 @@
+package com.portfolio.campaignmanager.exception;
+
+/**
+ * Exception thrown when request parameters are malformed or out of range.
+ * This typically results in a 400 BAD REQUEST HTTP response.
+ */
+public class BadRequestException extends RuntimeException {
+    
+    /**
+     * Creates a new BadRequestException with the specified message.
+     *
+     * @param message The detail message describing the invalid parameter
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,13 +1,18 @@
 package com.portfolio.campaignmanager.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -68,6 +73,181 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
     }
     
+    /**
+     * Handles AuthenticationException, such as bad credentials or an invalid refresh token.
+     * Returns 401 UNAUTHORIZED status.
+     *
+     * @param ex The AuthenticationException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(
+            AuthenticationException ex, WebRequest request) {
+        
+        log.warn("Authentication failed: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNAUTHORIZED.value(),
+                HttpStatus.UNAUTHORIZED.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    }
+    
+    /**
+     * Handles BadRequestException.
+     * Returns 400 BAD REQUEST status.
+     *
+     * @param ex The BadRequestException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, WebRequest request) {
+        
+        log.warn("Bad request: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handles missing or malformed request parameters, such as an upload without a file name
+     * or an ID that is not a UUID.
+     * Returns 400 BAD REQUEST status.
+     *
+     * @param ex The MissingServletRequestParameterException or MethodArgumentTypeMismatchException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidParameterException(
+            Exception ex, WebRequest request) {
+        
+        log.warn("Invalid request parameter: {}", ex.getMessage());
+        
+        String message = ex instanceof MissingServletRequestParameterException missing
+                ? "Required parameter '" + missing.getParameterName() + "' is missing"
+                : "Invalid value for parameter '" + ((MethodArgumentTypeMismatchException) ex).getName() + "'";
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                message,
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handles request bodies in a format the endpoint does not read, such as CBOR sent to a
+     * JSON endpoint.
+     * Returns 415 UNSUPPORTED MEDIA TYPE status.
+     *
+     * @param ex The HttpMediaTypeNotSupportedException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupportedException(
+            HttpMediaTypeNotSupportedException ex, WebRequest request) {
+        
+        log.warn("Unsupported request body: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.getReasonPhrase(),
+                "Content type '" + ex.getContentType() + "' is not supported",
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+    
+    /**
+     * Handles AssetTooLargeException.
+     * Returns 413 PAYLOAD TOO LARGE status.
+     *
+     * @param ex The AssetTooLargeException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(AssetTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleAssetTooLargeException(
+            AssetTooLargeException ex, WebRequest request) {
+        
+        log.warn("Asset rejected: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                HttpStatus.PAYLOAD_TOO_LARGE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+    
+    /**
+     * Handles AssetStorageException.
+     * Returns 502 BAD GATEWAY status.
+     *
+     * @param ex The AssetStorageException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(AssetStorageException.class)
+    public ResponseEntity<ErrorResponse> handleAssetStorageException(
+            AssetStorageException ex, WebRequest request) {
+        
+        log.error("Asset storage failure: {}", ex.getMessage(), ex);
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_GATEWAY.value(),
+                HttpStatus.BAD_GATEWAY.getReasonPhrase(),
+                "Asset storage is unavailable. Please try again later.",
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_GATEWAY);
+    }
+    
+    /**
+     * Handles ServiceUnavailableException.
+     * Returns 503 SERVICE UNAVAILABLE status with a Retry-After header.
+     *
+     * @param ex The ServiceUnavailableException
+     * @param request The web request
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+        
+        log.warn("Request shed: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+    
     /**
      * Handles validation errors from @Valid annotations.
      * Returns 400 BAD REQUEST status with field-specific error details.
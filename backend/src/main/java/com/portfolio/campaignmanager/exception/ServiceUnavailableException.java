@@ -0,0 +1,27 @@
+package com.portfolio.campaignmanager.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource is saturated.
+ * This typically results in a 503 SERVICE UNAVAILABLE HTTP response with a Retry-After header.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+    
+    /**
+     * Seconds after which the client may retry.
+     */
+    private final long retryAfterSeconds;
+    
+    /**
+     * Creates a new ServiceUnavailableException with the specified message.
+     *
+     * @param message The detail message explaining which resource is saturated
+     * @param retryAfterSeconds Seconds after which the client may retry
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,345 @@
+package com.portfolio.campaignmanager.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.campaignmanager.exception.ErrorResponse;
+import com.portfolio.campaignmanager.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Makes POST requests that carry an {@code Idempotency-Key} header safe to retry: the first
+ * request with a key is executed and its response recorded, and every retry with the same key
+ * gets the recorded response (marked {@code Idempotent-Replayed: true}) without executing again.
+ *
+ * <p>Keys are scoped to the authenticated user. A retry must send the same method, path and
+ * body as the original, otherwise it is refused with 422. Duplicates arriving on the same
+ * instance while the original runs wait up to {@code idempotency.wait-timeout} for its
+ * response; a duplicate running elsewhere is refused with 409 until the original completes.
+ * Responses with a 5xx status are not recorded, so a retry after a server error executes
+ * again. Only the paths in {@code idempotency.paths} are covered; requests without the header
+ * are unaffected.</p>
+ *
+ * <p>Metrics: {@code idempotency.requests} (tag {@code result}: {@code executed},
+ * {@code replayed}, {@code conflict} or {@code mismatch}).</p>
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight<String, StoredResponse> inFlight = new SingleFlight<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflict;
+    private final Counter mismatch;
+
+    public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+        this.conflict = requests(meterRegistry, "conflict");
+        this.mismatch = requests(meterRegistry, "mismatch");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("Requests with an idempotency key by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * How far a request got: whether it ran the load for its key and whether it executed.
+     */
+    private static class Attempt {
+        boolean leader;
+        boolean executed;
+    }
+
+    /**
+     * Thrown out of the load when the key is held by a request that has not completed.
+     */
+    private static class KeyInUseException extends RuntimeException {
+    }
+
+    /**
+     * Carries a checked exception of the filter chain through the load.
+     */
+    private static class ChainException extends RuntimeException {
+
+        ChainException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            // Rejected by authorization later; keys are only honored per user
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        long maxRequestSize = properties.getMaxRequestSize().toBytes();
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxRequestSize + 1));
+        if (body.length > maxRequestSize) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Requests with an " + IDEMPOTENCY_KEY_HEADER + " are limited to " + properties.getMaxRequestSize());
+            return;
+        }
+
+        String scopeKey = sha256(authentication.getName(), key);
+        String fingerprint = sha256(request.getMethod(), request.getRequestURI(), body);
+
+        StoredResponse stored = store.find(scopeKey);
+        if (stored == null) {
+            CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+            Attempt attempt = new Attempt();
+            try {
+                stored = inFlight.execute(scopeKey,
+                        () -> claimAndExecute(scopeKey, fingerprint, cachedRequest, response, filterChain, attempt),
+                        properties.getWaitTimeout());
+            } catch (KeyInUseException | SingleFlight.WaitTimeoutException e) {
+                conflict.increment();
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still in progress, retry later");
+                return;
+            } catch (RuntimeException e) {
+                if (!attempt.leader) {
+                    stored = null;
+                } else if (e instanceof ChainException chainException) {
+                    if (chainException.getCause() instanceof ServletException servletException) {
+                        throw servletException;
+                    }
+                    throw (IOException) chainException.getCause();
+                } else {
+                    throw e;
+                }
+            }
+            if (attempt.executed) {
+                return;
+            }
+            if (stored == null) {
+                // The original failed on this instance and released the key
+                conflict.increment();
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "The request with this " + IDEMPOTENCY_KEY_HEADER + " failed, retry it");
+                return;
+            }
+        }
+
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            mismatch.increment();
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+
+        replayed.increment();
+        log.debug("Replaying {} {} for idempotency key {}", request.getMethod(), request.getRequestURI(), key);
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    /**
+     * Claims the key and runs the request, recording its response unless it failed with a
+     * server error. If another instance holds the key, returns its response instead.
+     *
+     * @return The recorded response, or null if the request failed
+     */
+    private StoredResponse claimAndExecute(String scopeKey, String fingerprint, HttpServletRequest request,
+                                           HttpServletResponse response, FilterChain filterChain, Attempt attempt) {
+        attempt.leader = true;
+        if (!store.claim(scopeKey, fingerprint)) {
+            StoredResponse stored = store.find(scopeKey);
+            if (stored == null) {
+                throw new KeyInUseException();
+            }
+            return stored;
+        }
+
+        attempt.executed = true;
+        executed.increment();
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, cachingResponse);
+        } catch (IOException | ServletException e) {
+            store.release(scopeKey);
+            throw new ChainException(e);
+        } catch (RuntimeException | Error e) {
+            store.release(scopeKey);
+            throw e;
+        }
+
+        try {
+            if (cachingResponse.getStatus() >= 500) {
+                store.release(scopeKey);
+                return null;
+            }
+            return store.complete(scopeKey, fingerprint, cachingResponse.getStatus(),
+                    cachingResponse.getContentType(), cachingResponse.getContentAsByteArray());
+        } finally {
+            try {
+                cachingResponse.copyBodyToResponse();
+            } catch (IOException e) {
+                throw new ChainException(e);
+            }
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Lower-case hex SHA-256 of the given parts, each terminated by a newline.
+     */
+    private static String sha256(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(part instanceof byte[] bytes ? bytes : part.toString().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request whose body, already read to fingerprint it, is served from memory.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.portfolio.campaignmanager.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency key settings, bound from {@code idempotency.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether the {@code Idempotency-Key} header is honored.
+     */
+    private boolean enabled = true;
+
+    /**
+     * POST endpoints (Ant patterns) that honor the header.
+     */
+    private List<String> paths = new ArrayList<>(List.of("/api/campaigns", "/api/campaigns/batch-create", "/api/campaigns/batch-update"));
+
+    /**
+     * How long a response is replayed for its key.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Responses kept in memory; the oldest are evicted first.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * Larger responses are only kept in the database, not in memory.
+     */
+    private DataSize maxCachedResponseSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Largest request body accepted with a key; the body is read up front to fingerprint it.
+     */
+    private DataSize maxRequestSize = DataSize.ofMegabytes(1);
+
+    /**
+     * How long a duplicate waits for the original request running on the same instance.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Claims older than this that never completed are taken over, e.g. after a crash.
+     */
+    private Duration staleClaimTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Whether keys are also stored in the database, which makes them hold across instances.
+     */
+    private boolean durable = true;
+
+    /**
+     * Time between deletions of expired keys.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+}
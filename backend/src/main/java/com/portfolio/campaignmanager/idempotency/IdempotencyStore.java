@@ -0,0 +1,143 @@
+package com.portfolio.campaignmanager.idempotency;
+
+import com.portfolio.campaignmanager.jobs.LeasedJobRunner;
+import com.portfolio.campaignmanager.model.entity.IdempotencyRecord;
+import com.portfolio.campaignmanager.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Responses recorded for idempotency keys. Recent responses are kept in a bounded in-memory
+ * map, so replays on the instance that served the original never touch the database. With
+ * {@code idempotency.durable} the {@code idempotency_keys} table holds every key as well:
+ * it is the source of truth across instances, and claiming a key there keeps two instances
+ * from executing the same request.
+ *
+ * <p>Every entry lives for {@code idempotency.ttl}, so evicting the oldest entry when the
+ * map is full also evicts the one closest to expiry. Expired rows are deleted every
+ * {@code idempotency.cleanup-interval}. The map holds at most {@code idempotency.max-entries}
+ * responses; its current size is reported by the gauge {@code idempotency.cache.size}.</p>
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final String CLEANUP_JOB_NAME = "idempotency-cleanup";
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final LeasedJobRunner jobRunner;
+    private final Map<String, StoredResponse> responses;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties,
+                            LeasedJobRunner jobRunner, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.jobRunner = jobRunner;
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        });
+        Gauge.builder("idempotency.cache.size", responses, Map::size)
+                .description("Idempotent responses held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Finds the response recorded for a key.
+     *
+     * @param scopeKey The user-scoped key
+     * @return The response, or null if the key is unknown, expired or still in progress
+     */
+    public StoredResponse find(String scopeKey) {
+        LocalDateTime now = LocalDateTime.now();
+        StoredResponse cached = responses.get(scopeKey);
+        if (cached != null && cached.getExpiresAt().isAfter(now)) {
+            return cached;
+        }
+        if (!properties.isDurable()) {
+            return null;
+        }
+
+        IdempotencyRecord record = repository.findById(scopeKey).orElse(null);
+        if (record == null || record.getStatus() == null || !record.getExpiresAt().isAfter(now)) {
+            return null;
+        }
+        StoredResponse stored = new StoredResponse(record.getFingerprint(), record.getStatus(),
+                record.getContentType(), record.getBody(), record.getExpiresAt());
+        cache(scopeKey, stored);
+        return stored;
+    }
+
+    /**
+     * Claims a key before its request is executed.
+     *
+     * @param scopeKey The user-scoped key
+     * @param fingerprint Fingerprint of the request
+     * @return true if this instance may execute the request, false if another one holds the key
+     */
+    public boolean claim(String scopeKey, String fingerprint) {
+        if (!properties.isDurable()) {
+            return true;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return repository.claim(scopeKey, fingerprint, now, now.plus(properties.getTtl()),
+                now.minus(properties.getStaleClaimTimeout())) > 0;
+    }
+
+    /**
+     * Records the response of a claimed key.
+     *
+     * @return The recorded response
+     */
+    public StoredResponse complete(String scopeKey, String fingerprint, int status, String contentType, byte[] body) {
+        StoredResponse stored = new StoredResponse(fingerprint, status, contentType, body,
+                LocalDateTime.now().plus(properties.getTtl()));
+        if (properties.isDurable()) {
+            repository.complete(scopeKey, status, contentType, body, stored.getExpiresAt());
+        }
+        cache(scopeKey, stored);
+        return stored;
+    }
+
+    /**
+     * Releases the claim of a key whose request failed, so a retry executes it again.
+     */
+    public void release(String scopeKey) {
+        if (properties.isDurable()) {
+            repository.release(scopeKey);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval:PT1H}",
+            initialDelayString = "${idempotency.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (responses) {
+            responses.values().removeIf(stored -> !stored.getExpiresAt().isAfter(now));
+        }
+        if (properties.isDurable()) {
+            // Every instance trims its own map, but one of them deletes the rows
+            jobRunner.run(CLEANUP_JOB_NAME, properties.getCleanupInterval(), shard -> {
+                int deleted = repository.deleteExpired(now);
+                log.debug("Deleted {} expired idempotency keys", deleted);
+            });
+        }
+    }
+
+    private void cache(String scopeKey, StoredResponse stored) {
+        if (stored.getBody().length <= properties.getMaxCachedResponseSize().toBytes()) {
+            responses.put(scopeKey, stored);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.portfolio.campaignmanager.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A response recorded for an idempotency key, replayed to retries of the same request.
+ */
+@Data
+@AllArgsConstructor
+public class StoredResponse {
+
+    /**
+     * Fingerprint of the request that produced the response.
+     */
+    private final String fingerprint;
+
+    private final int status;
+
+    private final String contentType;
+
+    private final byte[] body;
+
+    private final LocalDateTime expiresAt;
+}
@@ -0,0 +1,32 @@
+package com.portfolio.campaignmanager.jobs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Leases of cluster-wide scheduled jobs, bound from {@code jobs.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jobs")
+public class JobProperties {
+
+    /**
+     * How long a lease holds without a heartbeat. A shard whose instance died runs again
+     * elsewhere at most this long after the last heartbeat.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(2);
+
+    /**
+     * How often held leases are extended; well below the lease duration.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /**
+     * Name of this instance in the lease table; the host name plus a random suffix if unset.
+     */
+    private String instanceId;
+}
@@ -0,0 +1,156 @@
+package com.portfolio.campaignmanager.jobs;
+
+import com.portfolio.campaignmanager.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs scheduled jobs once across all instances. Jobs keep their {@code @Scheduled} trigger on
+ * every instance and hand their work to this runner, which runs only the shards that are due
+ * and not leased by another instance.
+ *
+ * <p>Each shard of a job has a row in {@code job_leases}. Acquiring a shard takes the one due
+ * the longest with {@code FOR UPDATE SKIP LOCKED}, so instances triggered at the same time
+ * each get a different shard and work through them in parallel. While a shard runs, a
+ * heartbeat thread extends its lease every {@code jobs.heartbeat-interval}; if the instance
+ * dies, the lease lapses after {@code jobs.lease-duration} and the shard runs elsewhere. A
+ * finished shard is due again one interval after it started, whichever instance triggers it.
+ * Jobs must therefore tolerate a shard running once more after a lapsed lease.</p>
+ *
+ * <p>Metrics: {@code jobs.runs} (timer, tags {@code job} and {@code result}: {@code success}
+ * or {@code failure}) and {@code jobs.leases.held}.</p>
+ */
+@Component
+@Slf4j
+public class LeasedJobRunner {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+    private final Set<String> initialized = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger held = new AtomicInteger();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "job-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LeasedJobRunner(JobLeaseRepository jobLeaseRepository, JobProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.owner = StringUtils.hasText(properties.getInstanceId()) ? properties.getInstanceId() : defaultInstanceId();
+        Gauge.builder("jobs.leases.held", held, AtomicInteger::get)
+                .description("Job leases held by this instance")
+                .register(meterRegistry);
+    }
+
+    private static String defaultInstanceId() {
+        String host = System.getenv("HOSTNAME");
+        return (host != null ? host : "instance") + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Job leases held as {}", owner);
+    }
+
+    /**
+     * Runs an unsharded job if it is due and not running elsewhere.
+     *
+     * @param jobName Name of the job, unique across the application
+     * @param interval Time between the starts of two runs across all instances
+     * @param task The job's work, given the single shard covering every key
+     * @return true if the job ran on this instance
+     */
+    public boolean run(String jobName, Duration interval, ShardTask task) {
+        return run(jobName, 1, interval, task) > 0;
+    }
+
+    /**
+     * Runs the shards of a job that are due and not running elsewhere, one at a time.
+     *
+     * @param jobName Name of the job, unique across the application
+     * @param shards Number of shards the job's keys are split into
+     * @param interval Time between the starts of two runs of a shard across all instances
+     * @param task The job's work on one shard
+     * @return Number of shards run on this instance
+     */
+    public int run(String jobName, int shards, Duration interval, ShardTask task) {
+        String shardKey = jobName + "/" + shards;
+        if (!initialized.contains(shardKey)) {
+            jobLeaseRepository.createShards(jobName, shards);
+            initialized.add(shardKey);
+        }
+
+        int ran = 0;
+        double leaseSeconds = properties.getLeaseDuration().toMillis() / 1000.0;
+        double intervalSeconds = interval.toMillis() / 1000.0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Integer> acquired = jobLeaseRepository.acquire(jobName, shards, owner, leaseSeconds);
+            if (acquired.isEmpty()) {
+                break;
+            }
+
+            Shard shard = Shard.of(acquired.get(0), shards);
+            held.incrementAndGet();
+            String result = "failure";
+            long start = System.nanoTime();
+            try {
+                task.run(shard);
+                result = "success";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Job {} failed on shard {}: {}", jobName, shard, e.getMessage(), e);
+            } finally {
+                held.decrementAndGet();
+                Timer.builder("jobs.runs")
+                        .description("Runs of scheduled job shards")
+                        .tag("job", jobName)
+                        .tag("result", result)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                jobLeaseRepository.release(jobName, shard.getIndex(), owner, intervalSeconds, result);
+            }
+            ran++;
+        }
+        return ran;
+    }
+
+    private void renew() {
+        if (held.get() == 0) {
+            return;
+        }
+        try {
+            jobLeaseRepository.heartbeat(owner, properties.getLeaseDuration().toMillis() / 1000.0);
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew job leases: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.campaignmanager.jobs;
+
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * One of {@code count} equal slices of the UUID key space. A sharded job restricts its work to
+ * rows whose key (a campaign or user ID, say) lies between the bounds, so shards never overlap
+ * and together cover every key. Random UUIDs spread evenly over the shards, and the bounds
+ * turn into a range scan on an indexed key.
+ */
+@Value
+public class Shard {
+
+    private static final BigInteger KEY_SPACE = BigInteger.ONE.shiftLeft(64);
+
+    int index;
+    int count;
+
+    /**
+     * Smallest key of the shard, inclusive.
+     */
+    UUID lowerBound;
+
+    /**
+     * Largest key of the shard, inclusive.
+     */
+    UUID upperBound;
+
+    /**
+     * Returns shard {@code index} of {@code count}.
+     */
+    public static Shard of(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+        // Bounds split the 64 high bits; PostgreSQL compares UUIDs as unsigned bytes
+        long lower = start(index, count);
+        long upper = start(index + 1, count) - 1;
+        return new Shard(index, count, new UUID(lower, 0L), new UUID(upper, -1L));
+    }
+
+    private static long start(int index, int count) {
+        return BigInteger.valueOf(index).multiply(KEY_SPACE).divide(BigInteger.valueOf(count)).longValue();
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
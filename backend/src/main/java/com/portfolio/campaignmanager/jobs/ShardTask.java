@@ -0,0 +1,15 @@
+package com.portfolio.campaignmanager.jobs;
+
+/**
+ * Work of a scheduled job on one shard.
+ */
+@FunctionalInterface
+public interface ShardTask {
+
+    /**
+     * Runs the job for the keys of the shard.
+     *
+     * @throws InterruptedException if the thread was interrupted; the remaining shards are skipped
+     */
+    void run(Shard shard) throws InterruptedException;
+}
@@ -0,0 +1,26 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a campaign's assets.
+ * Pass {@code nextCursor} back as {@code cursor} to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetPageResponse {
+
+    private List<CampaignAssetResponse> items;
+
+    /**
+     * Opaque cursor of the next page; null on the last page.
+     */
+    private String nextCursor;
+}
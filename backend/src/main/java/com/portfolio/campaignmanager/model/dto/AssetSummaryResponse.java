@@ -0,0 +1,53 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import com.portfolio.campaignmanager.repository.CampaignAssetRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for asset summaries shown in campaign grids.
+ * Carries only what a grid tile needs, without storage details.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetSummaryResponse {
+
+    private UUID id;
+
+    private String fileName;
+
+    private String fileType;
+
+    private Long fileSize;
+
+    private LocalDateTime uploadedAt;
+
+    /**
+     * API path of the thumbnail; null until it has been generated, and for non-image assets.
+     */
+    private String thumbnailUrl;
+
+    /**
+     * Static factory method to create AssetSummaryResponse from a query projection.
+     */
+    public static AssetSummaryResponse fromProjection(CampaignAssetRepository.AssetSummary summary) {
+        return AssetSummaryResponse.builder()
+                .id(summary.getId())
+                .fileName(summary.getFileName())
+                .fileType(summary.getFileType())
+                .fileSize(summary.getFileSize())
+                .uploadedAt(summary.getUploadedAt())
+                .thumbnailUrl(Boolean.TRUE.equals(summary.getHasThumbnail())
+                        ? CampaignAssetResponse.derivativePath(summary.getId(), DerivativeKind.THUMBNAIL)
+                        : null)
+                .build();
+    }
+}
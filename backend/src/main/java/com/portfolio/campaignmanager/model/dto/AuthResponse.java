@@ -8,7 +8,8 @@ import java.util.UUID;
 
 /**
  * DTO for authentication responses.
- * Contains JWT token and user information after successful login/registration.
+ * Contains the JWT access and refresh tokens and user information after successful
+ * login, registration or token refresh.
  */
 @Data
 @NoArgsConstructor
@@ -16,6 +17,13 @@ import java.util.UUID;
 public class AuthResponse {
     
     private String token;
+    private String refreshToken;
+    
+    /**
+     * Access token lifetime in seconds
+     */
+    private long expiresIn;
+    
     private UUID userId;
     private String email;
     private String name;
@@ -24,7 +32,8 @@ public class AuthResponse {
     /**
      * Constructor for creating response with all user details
      */
-    public static AuthResponse of(String token, UUID userId, String email, String name, String role) {
-        return new AuthResponse(token, userId, email, name, role);
+    public static AuthResponse of(String token, String refreshToken, long expiresIn,
+                                  UUID userId, String email, String name, String role) {
+        return new AuthResponse(token, refreshToken, expiresIn, userId, email, name, role);
     }
 }
\ No newline at end of file
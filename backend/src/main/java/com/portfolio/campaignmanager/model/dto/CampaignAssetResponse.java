@@ -0,0 +1,94 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import com.portfolio.campaignmanager.model.entity.AssetDerivative;
+import com.portfolio.campaignmanager.model.entity.CampaignAsset;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * DTO for campaign asset responses.
+ * Contains the stored file's metadata and location.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignAssetResponse {
+
+    private UUID id;
+
+    private UUID campaignId;
+
+    private String fileName;
+
+    private String s3Url;
+
+    private String fileType;
+
+    private Long fileSize;
+
+    /**
+     * Lower-case hex SHA-256 of the file content.
+     */
+    private String checksumSha256;
+
+    private LocalDateTime uploadedAt;
+
+    /**
+     * API path of the thumbnail; null until it has been generated, and for non-image assets.
+     * Like the asset content, it requires the owner's bearer token.
+     */
+    private String thumbnailUrl;
+
+    /**
+     * API path of the web preview; null until it has been generated, and for non-image assets.
+     */
+    private String previewUrl;
+
+    /**
+     * Static factory method to create CampaignAssetResponse from entity.
+     */
+    public static CampaignAssetResponse fromEntity(CampaignAsset asset) {
+        return CampaignAssetResponse.builder()
+                .id(asset.getId())
+                .campaignId(asset.getCampaign().getId())
+                .fileName(asset.getFileName())
+                .s3Url(asset.getS3Url())
+                .fileType(asset.getFileType())
+                .fileSize(asset.getFileSize())
+                .checksumSha256(asset.getChecksumSha256())
+                .uploadedAt(asset.getUploadedAt())
+                .build();
+    }
+
+    /**
+     * Static factory method to create CampaignAssetResponse from entity and its derivatives.
+     */
+    public static CampaignAssetResponse fromEntity(CampaignAsset asset, List<AssetDerivative> derivatives) {
+        CampaignAssetResponse response = fromEntity(asset);
+        for (AssetDerivative derivative : derivatives) {
+            if (derivative.getKind() == DerivativeKind.THUMBNAIL) {
+                response.setThumbnailUrl(derivativePath(asset.getId(), DerivativeKind.THUMBNAIL));
+            } else if (derivative.getKind() == DerivativeKind.PREVIEW) {
+                response.setPreviewUrl(derivativePath(asset.getId(), DerivativeKind.PREVIEW));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the API path a derivative of an asset is served from. The storage URL is
+     * never exposed: it is a local file path or a private bucket URL.
+     */
+    public static String derivativePath(UUID assetId, DerivativeKind kind) {
+        return "/api/assets/" + assetId + "/" + kind.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating many campaigns at once.
+ * Items are validated one by one, so an invalid item fails only itself.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignBatchCreateRequest {
+    
+    @NotEmpty(message = "At least one campaign is required")
+    private List<CampaignRequest> items;
+}
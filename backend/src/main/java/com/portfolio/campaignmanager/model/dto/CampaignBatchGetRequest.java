@@ -0,0 +1,21 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for fetching many campaigns at once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignBatchGetRequest {
+    
+    @NotEmpty(message = "At least one campaign ID is required")
+    private List<UUID> ids;
+}
@@ -0,0 +1,27 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO of a campaign batch request, with one result per item in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignBatchResponse {
+    
+    private List<CampaignBatchResult> results;
+    
+    private int succeeded;
+    
+    private int failed;
+    
+    public static CampaignBatchResponse of(List<CampaignBatchResult> results) {
+        int succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+        return new CampaignBatchResponse(results, succeeded, results.size() - succeeded);
+    }
+}
@@ -0,0 +1,47 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a campaign batch request.
+ * {@code status} is the HTTP status the item would have had as a single request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignBatchResult {
+    
+    /**
+     * Position of the item in the request.
+     */
+    private int index;
+    
+    /**
+     * ID of the campaign; null for creations that failed.
+     */
+    private UUID id;
+    
+    private int status;
+    
+    /**
+     * Why the item failed; null on success.
+     */
+    private String error;
+    
+    /**
+     * The campaign after the operation; null on failure.
+     */
+    private CampaignResponse campaign;
+    
+    public static CampaignBatchResult success(int index, int status, CampaignResponse campaign) {
+        return new CampaignBatchResult(index, campaign.getId(), status, null, campaign);
+    }
+    
+    public static CampaignBatchResult failure(int index, UUID id, int status, String error) {
+        return new CampaignBatchResult(index, id, status, error, null);
+    }
+}
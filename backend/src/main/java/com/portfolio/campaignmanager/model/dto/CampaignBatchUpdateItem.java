@@ -0,0 +1,45 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One campaign update within a batch. Only the fields that are set are changed;
+ * null fields keep their current value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignBatchUpdateItem {
+    
+    @NotNull(message = "Campaign ID is required")
+    private UUID id;
+    
+    @Size(max = 200, message = "Campaign name cannot exceed 200 characters")
+    @Pattern(regexp = ".*\\S.*", message = "Campaign name cannot be blank")
+    private String name;
+    
+    private String description;
+    
+    @Positive(message = "Budget must be positive")
+    private BigDecimal budget;
+    
+    private LocalDate startDate;
+    
+    private LocalDate endDate;
+    
+    @Size(max = 500, message = "Target audience description cannot exceed 500 characters")
+    private String targetAudience;
+    
+    private CampaignStatus status;
+}
@@ -0,0 +1,46 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the campaigns changed since a change cursor.
+ * Pass {@code cursor} back as {@code since} to fetch the changes that follow.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignChangesResponse {
+
+    /**
+     * Campaigns created or updated since the cursor, to be upserted by ID.
+     */
+    private List<CampaignSummaryResponse> changed;
+
+    /**
+     * IDs of campaigns deleted since the cursor.
+     */
+    private List<UUID> deleted;
+
+    /**
+     * Opaque cursor of the last change returned.
+     */
+    private String cursor;
+
+    /**
+     * True if more changes are waiting; fetch again with the new cursor right away.
+     */
+    private boolean hasMore;
+
+    /**
+     * True if the changes are a full snapshot rather than a delta, because no cursor was given
+     * or it was too old. Clients drop their local copy before applying them.
+     */
+    private boolean reset;
+}
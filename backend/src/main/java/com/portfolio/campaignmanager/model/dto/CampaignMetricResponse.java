@@ -53,17 +53,24 @@ public class CampaignMetricResponse {
      * Static factory method to create CampaignMetricResponse from entity with calculated rates.
      */
     public static CampaignMetricResponse fromEntity(com.portfolio.campaignmanager.model.entity.CampaignMetric metric) {
-        double ctr = metric.getImpressions() > 0 ? 
-                (double) metric.getClicks() / metric.getImpressions() * 100 : 0.0;
+        return of(metric.getDate(), metric.getImpressions(), metric.getClicks(), metric.getConversions());
+    }
+
+    /**
+     * Static factory method to create CampaignMetricResponse from daily counts with calculated rates.
+     */
+    public static CampaignMetricResponse of(LocalDate date, int impressions, int clicks, int conversions) {
+        double ctr = impressions > 0 ? 
+                (double) clicks / impressions * 100 : 0.0;
         
-        double conversionRate = metric.getClicks() > 0 ? 
-                (double) metric.getConversions() / metric.getClicks() * 100 : 0.0;
+        double conversionRate = clicks > 0 ? 
+                (double) conversions / clicks * 100 : 0.0;
 
         return CampaignMetricResponse.builder()
-                .date(metric.getDate())
-                .impressions(metric.getImpressions())
-                .clicks(metric.getClicks())
-                .conversions(metric.getConversions())
+                .date(date)
+                .impressions(impressions)
+                .clicks(clicks)
+                .conversions(conversions)
                 .clickThroughRate(Math.round(ctr * 100.0) / 100.0) // Round to 2 decimal places
                 .conversionRate(Math.round(conversionRate * 100.0) / 100.0) // Round to 2 decimal places
                 .build();
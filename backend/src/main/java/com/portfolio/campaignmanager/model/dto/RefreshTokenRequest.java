@@ -0,0 +1,15 @@
+package com.portfolio.campaignmanager.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * DTO for token refresh and logout requests.
+ * Contains the refresh token issued at login.
+ */
+@Data
+public class RefreshTokenRequest {
+    
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -0,0 +1,58 @@
+package com.portfolio.campaignmanager.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Content-addressed asset content, stored once per distinct SHA-256 and shared by every
+ * {@link CampaignAsset} with identical content. {@code refCount} counts those assets; a blob
+ * whose count drops to zero is deleted by the blob garbage collector after a grace period.
+ */
+@Entity
+@Table(name = "asset_blobs", indexes = {
+        @Index(name = "idx_asset_blobs_orphaned_at", columnList = "orphaned_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetBlob {
+    
+    @Id
+    @Column(name = "sha256", length = 64, updatable = false, nullable = false)
+    private String sha256;
+    
+    @Column(name = "storage_key", nullable = false, unique = true, length = 500)
+    private String storageKey;
+    
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+    
+    @Column(name = "size", nullable = false)
+    private Long size;
+    
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * When the reference count last dropped to zero; null while the blob is referenced.
+     */
+    @Column(name = "orphaned_at")
+    private LocalDateTime orphanedAt;
+    
+    /**
+     * Set while the upload that inserted the blob moves its content into place; null once the
+     * content is stored. Concurrent uploads of the same content wait for it to be cleared, and
+     * one of them takes over the move once it has passed.
+     */
+    @Column(name = "pending_until")
+    private LocalDateTime pendingUntil;
+}
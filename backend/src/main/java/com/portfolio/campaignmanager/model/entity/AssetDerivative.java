@@ -0,0 +1,66 @@
+package com.portfolio.campaignmanager.model.entity;
+
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A resized rendition of an image asset. The stored object belongs to the asset's
+ * {@link AssetBlob}, so assets with identical content share it, and it is deleted together
+ * with the blob.
+ */
+@Entity
+@Table(name = "asset_derivatives", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_asset_derivatives_asset_kind", columnNames = {"asset_id", "kind"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetDerivative {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "asset_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CampaignAsset asset;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private DerivativeKind kind;
+    
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;
+    
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+    
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+    
+    @Column(name = "width", nullable = false)
+    private Integer width;
+    
+    @Column(name = "height", nullable = false)
+    private Integer height;
+    
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
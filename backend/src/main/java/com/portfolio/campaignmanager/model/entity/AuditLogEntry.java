@@ -0,0 +1,54 @@
+package com.portfolio.campaignmanager.model.entity;
+
+import com.portfolio.campaignmanager.model.enums.AuditAction;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One audited change: who changed which entity, when, and how. {@code changes} is a JSON
+ * object mapping each changed field to its {@code from} and {@code to} values.
+ *
+ * <p>Rows are written in batches by the audit writer through JDBC, not through JPA; the
+ * entity defines the table and allows reading it.</p>
+ */
+@Entity
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_log_entity", columnList = "entity_type, entity_id, occurred_at"),
+        @Index(name = "idx_audit_log_user_id", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogEntry {
+    
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+    
+    @Column(name = "entity_type", nullable = false, length = 50)
+    private String entityType;
+    
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+    
+    @Column(name = "user_id")
+    private UUID userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private AuditAction action;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "changes", nullable = false, columnDefinition = "jsonb")
+    private String changes;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -13,8 +14,21 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * A marketing campaign. Deleted campaigns are only marked with {@code deletedAt} and are
+ * invisible to every JPA read; their rows and children are purged in the background by
+ * {@code CampaignPurgeService}. Every change moves the campaign to the end of a global change
+ * sequence, which the delta sync endpoint reads from. Campaigns are activated on their start
+ * date and completed after their end date by {@code CampaignLifecycleService}.
+ */
 @Entity
-@Table(name = "campaigns")
+@Table(name = "campaigns", indexes = {
+        @Index(name = "idx_campaigns_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_campaigns_user_change_seq", columnList = "user_id, change_seq"),
+        @Index(name = "idx_campaigns_status_start_date", columnList = "status, start_date"),
+        @Index(name = "idx_campaigns_status_end_date", columnList = "status, end_date")
+})
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -55,6 +69,21 @@ public class Campaign {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * When the campaign was deleted; null while it is live.
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
+    /**
+     * Position of the campaign's latest change in the change sequence. Assigned by the database
+     * on insert and advanced with {@code CampaignRepository.advanceChangeSeq} on every update
+     * and deletion.
+     */
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint generated by default as identity")
+    private Long changeSeq;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
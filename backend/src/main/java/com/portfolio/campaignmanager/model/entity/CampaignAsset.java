@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "campaign_assets")
+@Table(name = "campaign_assets", indexes = {
+        @Index(name = "idx_campaign_assets_blob_sha256", columnList = "blob_sha256"),
+        @Index(name = "idx_campaign_assets_campaign_uploaded_at", columnList = "campaign_id, uploaded_at, id"),
+        @Index(name = "idx_campaign_assets_campaign_file_size", columnList = "campaign_id, file_size, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,6 +35,10 @@ public class CampaignAsset {
     @Column(name = "file_name", nullable = false, length = 255)
     private String fileName;
     
+    /**
+     * Unique key of this asset. Content of deduplicated assets is stored at the
+     * {@link AssetBlob#getStorageKey() blob's storage key}.
+     */
     @Column(name = "s3_key", nullable = false, unique = true, length = 500)
     private String s3Key;
     
@@ -43,6 +51,16 @@ public class CampaignAsset {
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
     
+    @Column(name = "checksum_sha256", length = 64)
+    private String checksumSha256;
+    
+    /**
+     * SHA-256 of the shared {@link AssetBlob} holding the content; null for assets stored
+     * under their own key before deduplication.
+     */
+    @Column(name = "blob_sha256", length = 64)
+    private String blobSha256;
+    
     @CreationTimestamp
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
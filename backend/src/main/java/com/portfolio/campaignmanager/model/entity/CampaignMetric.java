@@ -12,7 +12,9 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "campaign_metrics")
+@Table(name = "campaign_metrics", indexes = {
+        @Index(name = "idx_campaign_metrics_campaign_date", columnList = "campaign_id, date")
+})
 @Data
 @Builder
 @NoArgsConstructor
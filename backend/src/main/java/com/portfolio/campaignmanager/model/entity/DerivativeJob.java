@@ -0,0 +1,60 @@
+package com.portfolio.campaignmanager.model.entity;
+
+import com.portfolio.campaignmanager.model.enums.DerivativeJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A queued request to generate the derivatives of an asset. Jobs are deleted once they
+ * succeed; jobs that exhaust their attempts stay behind as {@code FAILED}.
+ *
+ * <p>A worker claims a job by setting it {@code RUNNING} with a lease in {@code lockedUntil}.
+ * If the worker dies, the job is claimed again once the lease has expired.</p>
+ */
+@Entity
+@Table(name = "derivative_jobs", indexes = {
+        @Index(name = "idx_derivative_jobs_status_available_at", columnList = "status, available_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DerivativeJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "asset_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CampaignAsset asset;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private DerivativeJobStatus status = DerivativeJobStatus.PENDING;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,52 @@
+package com.portfolio.campaignmanager.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The outcome of a request sent with an {@code Idempotency-Key}, shared by all instances.
+ * A row without a status is a claim: the request is still being executed by some instance.
+ * Rows are deleted once they expire.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    
+    /**
+     * SHA-256 of the user and the client's key, so keys of different users never collide.
+     */
+    @Id
+    @Column(name = "scope_key", length = 64, updatable = false, nullable = false)
+    private String scopeKey;
+    
+    /**
+     * SHA-256 of the request's method, path and body.
+     */
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+    
+    /**
+     * HTTP status of the response; null while the request is in progress.
+     */
+    private Integer status;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    private byte[] body;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,77 @@
+package com.portfolio.campaignmanager.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Lease on one shard of a scheduled job, shared by all instances. The instance holding an
+ * unexpired lease is the only one running that shard; it extends the lease by heartbeat while
+ * it runs and releases it when done. A shard is due again once {@code nextRunAt} has passed.
+ */
+@Entity
+@Table(name = "job_leases")
+@IdClass(JobLease.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+    
+    @Id
+    @Column(name = "job_name", length = 100, nullable = false)
+    private String jobName;
+    
+    @Id
+    @Column(nullable = false)
+    private int shard;
+    
+    /**
+     * Instance that holds or last held the lease.
+     */
+    @Column(length = 200)
+    private String owner;
+    
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+    
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+    
+    /**
+     * When the lease lapses unless renewed; in the past while the shard is not running.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    /**
+     * Earliest time the shard runs again.
+     */
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+    
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+    
+    /**
+     * Outcome of the last run: {@code success} or {@code failure}.
+     */
+    @Column(name = "last_result", length = 20)
+    private String lastResult;
+    
+    /**
+     * Composite primary key of a lease.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        
+        private String jobName;
+        
+        private int shard;
+    }
+}
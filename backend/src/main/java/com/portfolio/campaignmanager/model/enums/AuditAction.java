@@ -0,0 +1,7 @@
+package com.portfolio.campaignmanager.model.enums;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
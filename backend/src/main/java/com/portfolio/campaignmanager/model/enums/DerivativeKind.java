@@ -0,0 +1,6 @@
+package com.portfolio.campaignmanager.model.enums;
+
+public enum DerivativeKind {
+    THUMBNAIL,
+    PREVIEW
+}
@@ -0,0 +1,16 @@
+package com.portfolio.campaignmanager.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts every prepared SQL statement
+ * against the {@link StatementCounter} of the current thread. The SQL is not modified.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.increment();
+        return sql;
+    }
+}
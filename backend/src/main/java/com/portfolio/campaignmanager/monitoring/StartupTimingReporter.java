@@ -0,0 +1,68 @@
+package com.portfolio.campaignmanager.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs startup phase timings once the application is ready to serve requests.
+ *
+ * <p>Reports JVM start to ready, the time spent per startup phase and the slowest bean
+ * instantiations recorded by the {@link BufferingApplicationStartup} installed in
+ * {@code CampaignManagerApplication}. The full timeline is available from the
+ * {@code /actuator/startup} endpoint until it is drained.</p>
+ */
+@Component
+@Slf4j
+public class StartupTimingReporter {
+
+    private static final int SLOWEST_BEANS = 10;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Application ready in {} ms since JVM start (context ready in {} ms)",
+                jvmUptime, event.getTimeTaken().toMillis());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+
+        Map<String, Long> phases = events.stream()
+                .filter(e -> !e.getStartupStep().getName().startsWith("spring.beans."))
+                .collect(Collectors.groupingBy(e -> e.getStartupStep().getName(),
+                        Collectors.summingLong(e -> e.getDuration().toMillis())));
+        phases.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(phase -> log.info("Startup phase {}: {} ms", phase.getKey(), phase.getValue()));
+
+        events.stream()
+                .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .forEach(e -> log.info("Slow bean {}: {} ms", beanName(e.getStartupStep()), e.getDuration().toMillis()));
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+}
@@ -0,0 +1,80 @@
+package com.portfolio.campaignmanager.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements issued while handling each HTTP request.
+ * Records the count per endpoint and logs a warning when an endpoint exceeds its budget,
+ * which is how N+1 query patterns surface in development and production.
+ *
+ * <p>Runs ahead of the security filter chain so statements issued during authentication
+ * are included in the request's count.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = StatementCounter.stop();
+            record(request, statements);
+        }
+    }
+
+    private void record(HttpServletRequest request, long statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = properties.budgetFor(method + " " + uri);
+        if (statements > budget) {
+            log.warn("SQL statement budget exceeded: {} {} issued {} statements (budget {})",
+                    method, request.getRequestURI(), statements, budget);
+            Counter.builder("http.server.sql.statements.budget.exceeded")
+                    .description("HTTP requests that issued more SQL statements than their budget")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
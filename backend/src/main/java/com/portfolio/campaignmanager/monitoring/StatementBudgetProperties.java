@@ -0,0 +1,39 @@
+package com.portfolio.campaignmanager.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statement budgets per HTTP request, bound from {@code monitoring.sql-statements.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "monitoring.sql-statements")
+public class StatementBudgetProperties {
+
+    /**
+     * Enables per-request statement counting and budget checks.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Budget applied to endpoints without an explicit entry.
+     */
+    private int defaultBudget = 20;
+
+    /**
+     * Budgets keyed by {@code "<METHOD> <path pattern>"}, e.g. {@code "GET /api/dashboard/summary"}.
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    /**
+     * Returns the budget for the given endpoint key.
+     */
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.campaignmanager.monitoring;
+
+/**
+ * Thread-bound counter of SQL statements prepared by Hibernate.
+ *
+ * <p>{@link StatementBudgetFilter} starts a count for every HTTP request and tests can start
+ * one around a single service call. Statements are only counted while a count is active on
+ * the current thread.</p>
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * Starts counting on the current thread, discarding any previous count.
+     */
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return Number of statements counted since {@link #start()}, or 0 if no count was active
+     */
+    public static long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0L;
+    }
+
+    /**
+     * Returns the number of statements counted so far on the current thread.
+     */
+    public static long current() {
+        long[] count = COUNT.get();
+        return count != null ? count[0] : 0L;
+    }
+
+    /**
+     * Returns whether a count is active on the current thread.
+     */
+    public static boolean isActive() {
+        return COUNT.get() != null;
+    }
+
+    static void increment() {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
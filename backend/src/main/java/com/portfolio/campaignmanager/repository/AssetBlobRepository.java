@@ -0,0 +1,139 @@
+package com.portfolio.campaignmanager.repository;
+
+import com.portfolio.campaignmanager.model.entity.AssetBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for AssetBlob entity operations.
+ * Reference counts are only changed with atomic UPDATE statements so concurrent uploads and
+ * deletes of the same content never lose an increment.
+ */
+@Repository
+public interface AssetBlobRepository extends JpaRepository<AssetBlob, String> {
+    
+    /**
+     * Inserts a pending blob with one reference, or adds a reference if the blob already
+     * exists. Commits on its own, so the row lock is only held for the statement. The
+     * inserter must move the content into place within {@code pendingSeconds} and then
+     * call {@link #markStored}.
+     *
+     * @param pendingSeconds How long the inserter has to store the content
+     * @return true if the row was inserted, false if an existing blob gained a reference
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO asset_blobs (sha256, storage_key, url, size, ref_count, created_at, pending_until)
+            VALUES (:sha256, :storageKey, :url, :size, 1, now(),
+                    LOCALTIMESTAMP + :pendingSeconds * INTERVAL '1 second')
+            ON CONFLICT (sha256) DO UPDATE
+                SET ref_count = asset_blobs.ref_count + 1, orphaned_at = NULL
+            RETURNING (xmax = 0)
+            """, nativeQuery = true)
+    boolean upsertReference(@Param("sha256") String sha256,
+                            @Param("storageKey") String storageKey,
+                            @Param("url") String url,
+                            @Param("size") long size,
+                            @Param("pendingSeconds") double pendingSeconds);
+    
+    /**
+     * Checks whether a blob's content is still being moved into place.
+     *
+     * @return true while pending, false once stored, empty if the blob doesn't exist
+     */
+    @Query(value = "SELECT pending_until IS NOT NULL FROM asset_blobs WHERE sha256 = :sha256", nativeQuery = true)
+    Optional<Boolean> isPending(@Param("sha256") String sha256);
+    
+    /**
+     * Takes over storing a pending blob whose deadline has passed, because its inserter
+     * failed or died.
+     *
+     * @param pendingSeconds How long the new owner has to store the content
+     * @return Number of rows updated (0 if the blob is stored or its deadline hasn't passed)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE asset_blobs SET pending_until = LOCALTIMESTAMP + :pendingSeconds * INTERVAL '1 second'
+            WHERE sha256 = :sha256 AND pending_until <= LOCALTIMESTAMP
+            """, nativeQuery = true)
+    int claimPending(@Param("sha256") String sha256, @Param("pendingSeconds") double pendingSeconds);
+    
+    /**
+     * Marks a pending blob's content as stored.
+     *
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE asset_blobs SET pending_until = NULL WHERE sha256 = :sha256", nativeQuery = true)
+    int markStored(@Param("sha256") String sha256);
+    
+    /**
+     * Gives up storing a pending blob, so a waiting upload of the same content can claim it at once.
+     *
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE asset_blobs SET pending_until = LOCALTIMESTAMP
+            WHERE sha256 = :sha256 AND pending_until IS NOT NULL
+            """, nativeQuery = true)
+    int abandonPending(@Param("sha256") String sha256);
+    
+    /**
+     * Adds a reference to a stored blob that is still referenced.
+     *
+     * @return Number of rows updated (0 if the blob is missing, orphaned or pending)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE asset_blobs SET ref_count = ref_count + 1
+            WHERE sha256 = :sha256 AND ref_count > 0 AND pending_until IS NULL
+            """, nativeQuery = true)
+    int addReference(@Param("sha256") String sha256);
+    
+    /**
+     * Removes references from a blob and marks it orphaned when none are left.
+     *
+     * @param now Timestamp recorded as the orphaned-at time
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE asset_blobs
+            SET ref_count = GREATEST(ref_count - :count, 0),
+                orphaned_at = CASE WHEN ref_count - :count <= 0 THEN :now ELSE orphaned_at END
+            WHERE sha256 = :sha256
+            """, nativeQuery = true)
+    int removeReferences(@Param("sha256") String sha256, @Param("count") int count,
+                         @Param("now") LocalDateTime now);
+    
+    /**
+     * Locks a batch of blobs that have been unreferenced since before the cutoff.
+     * Rows locked by another collector are skipped.
+     *
+     * @param cutoff Orphaned-at cutoff
+     * @param limit Maximum number of blobs
+     * @return Locked orphaned blobs
+     */
+    @Query(value = """
+            SELECT * FROM asset_blobs
+            WHERE ref_count = 0 AND orphaned_at < :cutoff
+            ORDER BY orphaned_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<AssetBlob> lockOrphans(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
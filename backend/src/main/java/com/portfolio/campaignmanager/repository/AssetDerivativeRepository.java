@@ -0,0 +1,55 @@
+package com.portfolio.campaignmanager.repository;
+
+import com.portfolio.campaignmanager.model.entity.AssetDerivative;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for AssetDerivative entity operations.
+ */
+@Repository
+public interface AssetDerivativeRepository extends JpaRepository<AssetDerivative, UUID> {
+    
+    /**
+     * Finds the derivatives of several assets in one query.
+     *
+     * @param assetIds The IDs of the assets
+     * @return Derivatives of the given assets
+     */
+    List<AssetDerivative> findByAssetIdIn(Collection<UUID> assetIds);
+    
+    /**
+     * Finds one derivative of an asset.
+     *
+     * @param assetId The ID of the asset
+     * @param kind The kind of derivative
+     * @return Optional containing the derivative if it has been generated, empty otherwise
+     */
+    Optional<AssetDerivative> findByAssetIdAndKind(UUID assetId, DerivativeKind kind);
+    
+    /**
+     * Checks whether derivatives have already been generated for an asset.
+     *
+     * @param assetId The ID of the asset
+     * @return true if the asset has derivatives
+     */
+    boolean existsByAssetId(UUID assetId);
+    
+    /**
+     * Finds the derivatives generated for any asset with the given content, so they can be
+     * linked to another asset without generating them again.
+     *
+     * @param blobSha256 SHA-256 of the shared content
+     * @return Derivatives of assets with that content
+     */
+    @Query("SELECT d FROM AssetDerivative d WHERE d.asset.blobSha256 = :blobSha256")
+    List<AssetDerivative> findByAssetBlobSha256(@Param("blobSha256") String blobSha256);
+}
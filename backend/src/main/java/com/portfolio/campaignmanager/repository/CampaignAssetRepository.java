@@ -1,9 +1,18 @@
 package com.portfolio.campaignmanager.repository;
 
 import com.portfolio.campaignmanager.model.entity.CampaignAsset;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,12 +25,80 @@ import java.util.UUID;
 public interface CampaignAssetRepository extends JpaRepository<CampaignAsset, UUID> {
     
     /**
-     * Finds all assets associated with a specific campaign.
+     * Counts the assets of a campaign.
      *
      * @param campaignId The ID of the campaign
-     * @return List of assets for the campaign
+     * @return Number of assets
      */
-    List<CampaignAsset> findByCampaignId(UUID campaignId);
+    long countByCampaignId(UUID campaignId);
+    
+    /**
+     * Counts the assets of many campaigns with one query.
+     *
+     * @param campaignIds The IDs of the campaigns
+     * @return Asset count per campaign; campaigns without assets are omitted
+     */
+    @Query("""
+            SELECT a.campaign.id AS campaignId, COUNT(a) AS assetCount
+            FROM CampaignAsset a
+            WHERE a.campaign.id IN :campaignIds
+            GROUP BY a.campaign.id
+            """)
+    List<AssetCount> countByCampaignIds(@Param("campaignIds") Collection<UUID> campaignIds);
+    
+    /**
+     * Returns one window of a campaign's assets using keyset pagination. The sort is extended
+     * with the asset ID, so positions are stable even when sort values repeat.
+     *
+     * @param campaignId The ID of the campaign
+     * @param position Position after the last asset of the previous window
+     * @param sort Sort order
+     * @param limit Maximum number of assets
+     * @return Window of assets
+     */
+    Window<CampaignAsset> findByCampaignId(UUID campaignId, ScrollPosition position, Sort sort, Limit limit);
+    
+    /**
+     * Returns one window of a campaign's assets whose MIME type starts with the given prefix.
+     *
+     * @param campaignId The ID of the campaign
+     * @param fileType MIME type or prefix, e.g. {@code image/}
+     * @param position Position after the last asset of the previous window
+     * @param sort Sort order
+     * @param limit Maximum number of assets
+     * @return Window of assets
+     */
+    Window<CampaignAsset> findByCampaignIdAndFileTypeStartingWith(UUID campaignId, String fileType,
+                                                                 ScrollPosition position, Sort sort, Limit limit);
+    
+    /**
+     * Returns the newest assets of several campaigns in one query, at most {@code perCampaign}
+     * per campaign, as lightweight summaries noting whether a thumbnail exists. Campaigns the user
+     * doesn't own are skipped.
+     *
+     * @param campaignIds The IDs of the campaigns
+     * @param userId The ID of the owning user
+     * @param perCampaign Maximum number of assets per campaign
+     * @return Summaries ordered by campaign, newest first
+     */
+    @Query(value = """
+            SELECT id AS "id", campaign_id AS "campaignId", file_name AS "fileName", file_type AS "fileType",
+                   file_size AS "fileSize", uploaded_at AS "uploadedAt", has_thumbnail AS "hasThumbnail"
+            FROM (
+                SELECT a.id, a.campaign_id, a.file_name, a.file_type, a.file_size, a.uploaded_at,
+                       d.id IS NOT NULL AS has_thumbnail,
+                       ROW_NUMBER() OVER (PARTITION BY a.campaign_id ORDER BY a.uploaded_at DESC, a.id DESC) AS row_num
+                FROM campaign_assets a
+                JOIN campaigns c ON c.id = a.campaign_id
+                LEFT JOIN asset_derivatives d ON d.asset_id = a.id AND d.kind = 'THUMBNAIL'
+                WHERE a.campaign_id IN (:campaignIds) AND c.user_id = :userId AND c.deleted_at IS NULL
+            ) ranked
+            WHERE row_num <= :perCampaign
+            ORDER BY campaign_id, uploaded_at DESC, id DESC
+            """, nativeQuery = true)
+    List<AssetSummary> findSummariesByCampaignIds(@Param("campaignIds") Collection<UUID> campaignIds,
+                                                  @Param("userId") UUID userId,
+                                                  @Param("perCampaign") int perCampaign);
     
     /**
      * Finds an asset by its S3 key.
@@ -30,4 +107,83 @@ public interface CampaignAssetRepository extends JpaRepository<CampaignAsset, UU
      * @return Optional containing the asset if found, empty otherwise
      */
     Optional<CampaignAsset> findByS3Key(String s3Key);
-}
\ No newline at end of file
+    
+    /**
+     * Finds an asset together with its campaign and owning user, so ownership can be
+     * checked without an open transaction.
+     *
+     * @param id The ID of the asset
+     * @return Optional containing the asset if found, empty otherwise
+     */
+    @Query("SELECT a FROM CampaignAsset a JOIN FETCH a.campaign c JOIN FETCH c.user WHERE a.id = :id")
+    Optional<CampaignAsset> findWithOwnerById(@Param("id") UUID id);
+    
+    /**
+     * Checks whether a user already owns an asset with the given content.
+     *
+     * @param blobSha256 The SHA-256 of the content
+     * @param userId The ID of the user
+     * @return true if one of the user's campaigns has an asset referencing the blob
+     */
+    boolean existsByBlobSha256AndCampaignUserId(String blobSha256, UUID userId);
+    
+    /**
+     * Deletes up to {@code limit} assets of a campaign and returns what their content was
+     * stored as. Rows locked by a concurrent purge are skipped, so no asset is returned twice.
+     *
+     * @param campaignId The ID of the campaign
+     * @param limit Maximum number of assets to delete
+     * @return The deleted assets' storage references
+     */
+    @Transactional
+    @Query(value = """
+            DELETE FROM campaign_assets
+            WHERE id IN (
+                SELECT id FROM campaign_assets
+                WHERE campaign_id = :campaignId
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING s3_key AS "s3Key", blob_sha256 AS "blobSha256"
+            """, nativeQuery = true)
+    List<PurgedAsset> purgeByCampaignId(@Param("campaignId") UUID campaignId, @Param("limit") int limit);
+    
+    /**
+     * Projection of an asset for listings that don't need the full entity.
+     */
+    interface AssetSummary {
+        
+        UUID getId();
+        
+        UUID getCampaignId();
+        
+        String getFileName();
+        
+        String getFileType();
+        
+        Long getFileSize();
+        
+        LocalDateTime getUploadedAt();
+        
+        Boolean getHasThumbnail();
+    }
+    
+    /**
+     * Projection of the storage references of a purged asset.
+     */
+    interface PurgedAsset {
+        
+        String getS3Key();
+        
+        String getBlobSha256();
+    }
+    
+    /**
+     * Number of assets of one campaign.
+     */
+    interface AssetCount {
+        
+        UUID getCampaignId();
+        
+        long getAssetCount();
+    }
+}
@@ -1,12 +1,20 @@
 package com.portfolio.campaignmanager.repository;
 
 import com.portfolio.campaignmanager.model.entity.CampaignMetric;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for CampaignMetric entity operations.
@@ -32,4 +40,57 @@ public interface CampaignMetricRepository extends JpaRepository<CampaignMetric,
      * @return List of metrics within the date range
      */
     List<CampaignMetric> findByCampaignIdAndDateBetween(UUID campaignId, LocalDate start, LocalDate end);
-}
\ No newline at end of file
+    
+    /**
+     * Streams the daily counts of a campaign within a date range, oldest first. Rows are
+     * fetched from a database cursor in batches and are not managed entities, so the stream
+     * must be consumed and closed inside a transaction.
+     *
+     * @param campaignId The ID of the campaign
+     * @param start The start date (inclusive)
+     * @param end The end date (inclusive)
+     * @return Stream of daily counts
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT m.date AS date, m.impressions AS impressions, m.clicks AS clicks, m.conversions AS conversions
+            FROM CampaignMetric m
+            WHERE m.campaign.id = :campaignId AND m.date BETWEEN :start AND :end
+            ORDER BY m.date
+            """)
+    Stream<DailyMetric> streamDailyMetrics(@Param("campaignId") UUID campaignId,
+                                           @Param("start") LocalDate start, @Param("end") LocalDate end);
+    
+    /**
+     * Deletes up to {@code limit} metrics of a campaign.
+     *
+     * @param campaignId The ID of the campaign
+     * @param limit Maximum number of metrics to delete
+     * @return Number of metrics deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM campaign_metrics
+            WHERE id IN (
+                SELECT id FROM campaign_metrics
+                WHERE campaign_id = :campaignId
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteChunkByCampaignId(@Param("campaignId") UUID campaignId, @Param("limit") int limit);
+    
+    /**
+     * Projection of one day's counts.
+     */
+    interface DailyMetric {
+        
+        LocalDate getDate();
+        
+        int getImpressions();
+        
+        int getClicks();
+        
+        int getConversions();
+    }
+}
@@ -1,16 +1,31 @@
 package com.portfolio.campaignmanager.repository;
 
+import com.portfolio.campaignmanager.model.dto.CampaignSummaryResponse;
 import com.portfolio.campaignmanager.model.entity.Campaign;
 import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Campaign entity operations.
  * Provides data access methods for campaign management.
+ * Derived queries only see live campaigns; the native queries below are the only way to
+ * reach deleted ones.
  */
 @Repository
 public interface CampaignRepository extends JpaRepository<Campaign, UUID> {
@@ -32,6 +47,41 @@ public interface CampaignRepository extends JpaRepository<Campaign, UUID> {
      */
     List<Campaign> findByUserIdAndStatus(UUID userId, CampaignStatus status);
     
+    /**
+     * Streams the summaries of a user's campaigns. Rows are fetched from a database cursor in
+     * batches and mapped straight to DTOs, so the stream must be consumed and closed inside a
+     * transaction.
+     *
+     * @param userId The ID of the user
+     * @return Stream of campaign summaries
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.portfolio.campaignmanager.model.dto.CampaignSummaryResponse(
+                c.id, c.name, c.status, c.budget, c.startDate, c.endDate, c.createdAt)
+            FROM Campaign c
+            WHERE c.user.id = :userId
+            """)
+    Stream<CampaignSummaryResponse> streamSummariesByUserId(@Param("userId") UUID userId);
+    
+    /**
+     * Streams the summaries of a user's campaigns with a specific status.
+     *
+     * @param userId The ID of the user
+     * @param status The campaign status to filter by
+     * @return Stream of campaign summaries
+     * @see #streamSummariesByUserId(UUID)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.portfolio.campaignmanager.model.dto.CampaignSummaryResponse(
+                c.id, c.name, c.status, c.budget, c.startDate, c.endDate, c.createdAt)
+            FROM Campaign c
+            WHERE c.user.id = :userId AND c.status = :status
+            """)
+    Stream<CampaignSummaryResponse> streamSummariesByUserIdAndStatus(@Param("userId") UUID userId,
+                                                                     @Param("status") CampaignStatus status);
+    
     /**
      * Counts the total number of campaigns owned by a user.
      *
@@ -48,4 +98,197 @@ public interface CampaignRepository extends JpaRepository<Campaign, UUID> {
      * @return Count of campaigns matching the criteria
      */
     long countByUserIdAndStatus(UUID userId, CampaignStatus status);
-}
\ No newline at end of file
+    
+    /**
+     * Finds deleted campaigns in an ID range whose metrics or assets have not been purged yet,
+     * oldest deletion first.
+     *
+     * @param lowerId Smallest campaign ID to consider
+     * @param upperId Largest campaign ID to consider
+     * @param limit Maximum number of campaigns to return
+     * @return IDs of deleted campaigns
+     */
+    @Query(value = """
+            SELECT c.id FROM campaigns c
+            WHERE c.deleted_at IS NOT NULL
+              AND c.id BETWEEN :lowerId AND :upperId
+              AND (EXISTS (SELECT 1 FROM campaign_metrics m WHERE m.campaign_id = c.id)
+                   OR EXISTS (SELECT 1 FROM campaign_assets a WHERE a.campaign_id = c.id))
+            ORDER BY c.deleted_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findUnpurgedDeletedIds(@Param("lowerId") UUID lowerId, @Param("upperId") UUID upperId,
+                                      @Param("limit") int limit);
+    
+    /**
+     * Deletes the rows of campaigns deleted before the cutoff whose children have been purged.
+     * Until then the rows serve as tombstones for delta sync. Assets must go first because
+     * they hold blob references the database cascade would not release.
+     *
+     * @param cutoff Campaigns deleted before this time are removed
+     * @param lowerId Smallest campaign ID to consider
+     * @param upperId Largest campaign ID to consider
+     * @param limit Maximum number of rows to delete
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM campaigns
+            WHERE id IN (
+                SELECT c.id FROM campaigns c
+                WHERE c.deleted_at < :cutoff
+                  AND c.id BETWEEN :lowerId AND :upperId
+                  AND NOT EXISTS (SELECT 1 FROM campaign_metrics m WHERE m.campaign_id = c.id)
+                  AND NOT EXISTS (SELECT 1 FROM campaign_assets a WHERE a.campaign_id = c.id)
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteTombstones(@Param("cutoff") LocalDateTime cutoff, @Param("lowerId") UUID lowerId,
+                         @Param("upperId") UUID upperId, @Param("limit") int limit);
+    
+    /**
+     * Moves a campaign to the end of the change sequence. Called after every update or
+     * deletion, in the same transaction.
+     *
+     * @param id The ID of the campaign
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE campaigns
+            SET change_seq = nextval(pg_get_serial_sequence('campaigns', 'change_seq'))
+            WHERE id = :id
+            """, nativeQuery = true)
+    int advanceChangeSeq(@Param("id") UUID id);
+    
+    /**
+     * Moves many campaigns to the end of the change sequence with one statement.
+     *
+     * @param ids The IDs of the campaigns
+     * @return Number of rows updated
+     * @see #advanceChangeSeq(UUID)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE campaigns
+            SET change_seq = nextval(pg_get_serial_sequence('campaigns', 'change_seq'))
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int advanceChangeSeqs(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Activates a batch of campaigns in a status whose start date has been reached and whose
+     * end date has not passed, moving them in the change sequence. Rows locked by another
+     * instance's batch are skipped, so instances running this at once never collide.
+     *
+     * @param fromStatus Status of the campaigns to activate
+     * @param today The current date
+     * @param now The current time, stored as the update time
+     * @param lowerId Smallest campaign ID to consider
+     * @param upperId Largest campaign ID to consider
+     * @param limit Maximum number of campaigns to activate
+     * @return IDs of the activated campaigns
+     */
+    @Transactional
+    @Query(value = """
+            WITH due AS (
+                SELECT id FROM campaigns
+                WHERE status = :fromStatus AND start_date <= :today
+                  AND (end_date IS NULL OR end_date >= :today)
+                  AND id BETWEEN :lowerId AND :upperId
+                  AND deleted_at IS NULL
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            UPDATE campaigns c
+            SET status = 'ACTIVE', updated_at = :now,
+                change_seq = nextval(pg_get_serial_sequence('campaigns', 'change_seq'))
+            FROM due
+            WHERE c.id = due.id
+            RETURNING c.id
+            """, nativeQuery = true)
+    List<UUID> activateDue(@Param("fromStatus") String fromStatus, @Param("today") LocalDate today,
+                           @Param("now") LocalDateTime now, @Param("lowerId") UUID lowerId,
+                           @Param("upperId") UUID upperId, @Param("limit") int limit);
+    
+    /**
+     * Completes a batch of campaigns in a status whose end date has passed.
+     *
+     * @param fromStatus Status of the campaigns to complete
+     * @param today The current date; campaigns ending before it are completed
+     * @param now The current time, stored as the update time
+     * @param lowerId Smallest campaign ID to consider
+     * @param upperId Largest campaign ID to consider
+     * @param limit Maximum number of campaigns to complete
+     * @return IDs of the completed campaigns
+     * @see #activateDue(String, LocalDate, LocalDateTime, UUID, UUID, int)
+     */
+    @Transactional
+    @Query(value = """
+            WITH due AS (
+                SELECT id FROM campaigns
+                WHERE status = :fromStatus AND end_date < :today
+                  AND id BETWEEN :lowerId AND :upperId
+                  AND deleted_at IS NULL
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            UPDATE campaigns c
+            SET status = 'COMPLETED', updated_at = :now,
+                change_seq = nextval(pg_get_serial_sequence('campaigns', 'change_seq'))
+            FROM due
+            WHERE c.id = due.id
+            RETURNING c.id
+            """, nativeQuery = true)
+    List<UUID> completeDue(@Param("fromStatus") String fromStatus, @Param("today") LocalDate today,
+                           @Param("now") LocalDateTime now, @Param("lowerId") UUID lowerId,
+                           @Param("upperId") UUID upperId, @Param("limit") int limit);
+    
+    /**
+     * Finds a user's campaigns changed after a position in the change sequence, deleted ones
+     * included, in sequence order.
+     *
+     * @param userId The ID of the user
+     * @param since Position of the last change already seen
+     * @param limit Maximum number of changes to return
+     * @return Changed campaigns
+     */
+    @Query(value = """
+            SELECT id AS "id", name AS "name", status AS "status", budget AS "budget",
+                   start_date AS "startDate", end_date AS "endDate", created_at AS "createdAt",
+                   updated_at AS "updatedAt", deleted_at AS "deletedAt", change_seq AS "changeSeq"
+            FROM campaigns
+            WHERE user_id = :userId AND change_seq > :since
+            ORDER BY change_seq
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CampaignChange> findChangesSince(@Param("userId") UUID userId, @Param("since") long since,
+                                          @Param("limit") int limit);
+    
+    /**
+     * Projection of a changed campaign, live or deleted.
+     */
+    interface CampaignChange {
+        
+        UUID getId();
+        
+        String getName();
+        
+        String getStatus();
+        
+        BigDecimal getBudget();
+        
+        LocalDate getStartDate();
+        
+        LocalDate getEndDate();
+        
+        LocalDateTime getCreatedAt();
+        
+        LocalDateTime getUpdatedAt();
+        
+        LocalDateTime getDeletedAt();
+        
+        Long getChangeSeq();
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.campaignmanager.repository;
+
+import com.portfolio.campaignmanager.model.entity.DerivativeJob;
+import com.portfolio.campaignmanager.model.enums.DerivativeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the derivative job queue.
+ * Jobs are claimed with {@code FOR UPDATE SKIP LOCKED}, so several application instances can
+ * work the same queue without claiming a job twice.
+ */
+@Repository
+public interface DerivativeJobRepository extends JpaRepository<DerivativeJob, UUID> {
+    
+    /**
+     * Claims due jobs: pending jobs whose retry time has come and running jobs whose lease
+     * has expired. Claimed jobs are set running with a new lease and one more attempt.
+     *
+     * @param now Current time
+     * @param leaseUntil End of the lease given to the claimed jobs
+     * @param limit Maximum number of jobs to claim
+     * @return The claimed jobs
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE derivative_jobs
+            SET status = 'RUNNING', locked_until = :leaseUntil, attempts = attempts + 1
+            WHERE id IN (
+                SELECT id FROM derivative_jobs
+                WHERE (status = 'PENDING' AND available_at <= :now)
+                   OR (status = 'RUNNING' AND locked_until < :now)
+                ORDER BY available_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<DerivativeJob> claim(@Param("now") LocalDateTime now,
+                              @Param("leaseUntil") LocalDateTime leaseUntil,
+                              @Param("limit") int limit);
+    
+    /**
+     * Returns a claimed job to the queue to be retried at the given time.
+     *
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE derivative_jobs
+            SET status = 'PENDING', available_at = :availableAt, locked_until = NULL, last_error = :error
+            WHERE id = :id
+            """, nativeQuery = true)
+    int reschedule(@Param("id") UUID id, @Param("availableAt") LocalDateTime availableAt,
+                   @Param("error") String error);
+    
+    /**
+     * Marks a claimed job as permanently failed.
+     *
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE derivative_jobs
+            SET status = 'FAILED', locked_until = NULL, last_error = :error
+            WHERE id = :id
+            """, nativeQuery = true)
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+    
+    /**
+     * Counts jobs with the given status.
+     *
+     * @param status Job status
+     * @return Number of jobs
+     */
+    long countByStatus(DerivativeJobStatus status);
+}
@@ -0,0 +1,76 @@
+package com.portfolio.campaignmanager.repository;
+
+import com.portfolio.campaignmanager.model.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for the durable idempotency key table.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    
+    /**
+     * Claims a key for execution. Succeeds if the key is unknown, if its record has expired,
+     * or if it was claimed before {@code staleBefore} and never completed, which happens when
+     * an instance dies mid-request.
+     *
+     * @return 1 if the key was claimed by this call, 0 if it is taken
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO idempotency_keys (scope_key, fingerprint, created_at, expires_at)
+            VALUES (:scopeKey, :fingerprint, :now, :expiresAt)
+            ON CONFLICT (scope_key) DO UPDATE
+            SET fingerprint = EXCLUDED.fingerprint, status = NULL, content_type = NULL, body = NULL,
+                created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= EXCLUDED.created_at
+               OR (idempotency_keys.status IS NULL AND idempotency_keys.created_at < :staleBefore)
+            """, nativeQuery = true)
+    int claim(@Param("scopeKey") String scopeKey, @Param("fingerprint") String fingerprint,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("staleBefore") LocalDateTime staleBefore);
+    
+    /**
+     * Stores the response of a claimed key.
+     *
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.status = :status, r.contentType = :contentType, r.body = :body, r.expiresAt = :expiresAt
+            WHERE r.scopeKey = :scopeKey
+            """)
+    int complete(@Param("scopeKey") String scopeKey, @Param("status") int status,
+                 @Param("contentType") String contentType, @Param("body") byte[] body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * Drops the claim of a key whose request failed, so a retry executes it again.
+     *
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopeKey = :scopeKey AND r.status IS NULL")
+    int release(@Param("scopeKey") String scopeKey);
+    
+    /**
+     * Deletes expired records.
+     *
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
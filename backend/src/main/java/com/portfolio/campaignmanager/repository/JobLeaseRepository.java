@@ -0,0 +1,105 @@
+package com.portfolio.campaignmanager.repository;
+
+import com.portfolio.campaignmanager.model.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository interface for scheduled job leases. All times are taken from the database clock,
+ * so clock skew between instances cannot make two of them hold the same lease.
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, JobLease.Key> {
+    
+    /**
+     * Creates the lease rows of a job's shards that do not exist yet, free and due at once.
+     *
+     * @param jobName Name of the job
+     * @param shards Number of shards
+     * @return Number of rows created
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO job_leases (job_name, shard, expires_at, next_run_at)
+            SELECT :jobName, s, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM generate_series(0, :shards - 1) s
+            ON CONFLICT (job_name, shard) DO NOTHING
+            """, nativeQuery = true)
+    int createShards(@Param("jobName") String jobName, @Param("shards") int shards);
+    
+    /**
+     * Acquires the lease of the job's shard that has been due the longest and is not held
+     * by any instance. Shards locked by a concurrent acquisition are skipped, so instances
+     * acquiring at once each get a different shard.
+     *
+     * @param jobName Name of the job
+     * @param shards Number of shards; rows of higher shards are ignored
+     * @param owner Acquiring instance
+     * @param leaseSeconds How long the lease holds without a heartbeat
+     * @return The acquired shard, or empty if no shard is due and free
+     */
+    @Transactional
+    @Query(value = """
+            WITH due AS (
+                SELECT job_name, shard FROM job_leases
+                WHERE job_name = :jobName AND shard < :shards
+                  AND expires_at <= LOCALTIMESTAMP AND next_run_at <= LOCALTIMESTAMP
+                ORDER BY next_run_at
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)
+            UPDATE job_leases l
+            SET owner = :owner, acquired_at = LOCALTIMESTAMP, heartbeat_at = LOCALTIMESTAMP,
+                expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second'
+            FROM due
+            WHERE l.job_name = due.job_name AND l.shard = due.shard
+            RETURNING l.shard
+            """, nativeQuery = true)
+    List<Integer> acquire(@Param("jobName") String jobName, @Param("shards") int shards,
+                          @Param("owner") String owner, @Param("leaseSeconds") double leaseSeconds);
+    
+    /**
+     * Extends every unexpired lease held by an instance. Leases that already lapsed may have
+     * been acquired by another instance and are left alone.
+     *
+     * @param owner The instance
+     * @param leaseSeconds How long the leases hold from now
+     * @return Number of leases extended
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE job_leases
+            SET heartbeat_at = LOCALTIMESTAMP, expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second'
+            WHERE owner = :owner AND expires_at > LOCALTIMESTAMP
+            """, nativeQuery = true)
+    int heartbeat(@Param("owner") String owner, @Param("leaseSeconds") double leaseSeconds);
+    
+    /**
+     * Releases a lease after a run and schedules the shard's next run, counted from when the
+     * lease was acquired. Does nothing if the lease lapsed and was acquired by another instance.
+     *
+     * @param jobName Name of the job
+     * @param shard The shard
+     * @param owner The releasing instance
+     * @param intervalSeconds Time between the starts of two runs of the shard
+     * @param result Outcome of the run
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE job_leases
+            SET expires_at = LOCALTIMESTAMP, last_finished_at = LOCALTIMESTAMP, last_result = :result,
+                next_run_at = acquired_at + :intervalSeconds * INTERVAL '1 second'
+            WHERE job_name = :jobName AND shard = :shard AND owner = :owner
+            """, nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("shard") int shard, @Param("owner") String owner,
+                @Param("intervalSeconds") double intervalSeconds, @Param("result") String result);
+}
@@ -0,0 +1,55 @@
+package com.portfolio.campaignmanager.repository;
+
+import com.portfolio.campaignmanager.model.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the token revocation table.
+ * Requests never query it; the in-memory denylist is built from it instead.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+    
+    /**
+     * Records a revocation unless the token is already revoked.
+     *
+     * @return 1 if the token was revoked by this call, 0 if it already was
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO revoked_tokens (jti, expires_at, revoked_at)
+            VALUES (:jti, :expiresAt, :now)
+            ON CONFLICT (jti) DO NOTHING
+            """, nativeQuery = true)
+    int revoke(@Param("jti") UUID jti, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+    
+    /**
+     * Revocations of tokens that have not expired yet.
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+    
+    /**
+     * Revocations recorded since the given time, for tokens that have not expired yet.
+     */
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+    
+    /**
+     * Deletes revocations of tokens that have expired anyway.
+     *
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,5 +1,6 @@
 package com.portfolio.campaignmanager.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,10 +16,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 /**
  * JWT authentication filter that processes JWT tokens from HTTP requests.
  * Validates tokens and sets up Spring Security authentication context.
+ * Only access tokens that are not on the {@link TokenDenylist} authenticate a request.
  */
 @Component
 @RequiredArgsConstructor
@@ -27,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(
@@ -44,7 +48,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                email = jwtUtil.extractUsername(jwt);
+                Claims claims = jwtUtil.extractAllClaims(jwt);
+                if (isActive(claims)) {
+                    email = claims.getSubject();
+                }
             } catch (Exception e) {
                 log.warn("Failed to extract username from JWT token: {}", e.getMessage());
             }
@@ -77,4 +84,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Checked before the user is loaded, so revoked tokens never cost a database query.
+     */
+    private boolean isActive(Claims claims) {
+        if (!jwtUtil.isAccessToken(claims)) {
+            log.warn("Rejected JWT that is not an access token for user: {}", claims.getSubject());
+            return false;
+        }
+        UUID tokenId = jwtUtil.extractTokenId(claims);
+        if (tokenId == null || tokenDenylist.isRevoked(tokenId)) {
+            log.warn("Rejected revoked JWT for user: {}", claims.getSubject());
+            return false;
+        }
+        return true;
+    }
+}
@@ -18,25 +18,53 @@ import java.util.function.Function;
 /**
  * JWT utility class for generating, parsing, and validating JWT tokens.
  * Handles token creation with user claims and token validation.
+ * Access tokens are short-lived and authenticate API requests; refresh tokens are long-lived
+ * and only accepted by the refresh endpoint. Every token carries a unique ID ({@code jti})
+ * so it can be revoked.
  */
 @Component
 public class JwtUtil {
 
+    private static final String TYPE_CLAIM = "type";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.refresh-expiration}")
+    private Long refreshExpiration;
+
     /**
-     * Generate JWT token for a user
+     * Generate JWT access token for a user
      */
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId().toString());
         claims.put("email", user.getEmail());
         claims.put("role", user.getRole().name());
-        return createToken(claims, user.getEmail());
+        claims.put(TYPE_CLAIM, ACCESS_TYPE);
+        return createToken(claims, user.getEmail(), expiration);
+    }
+
+    /**
+     * Generate JWT refresh token for a user
+     */
+    public String generateRefreshToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId().toString());
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
+        return createToken(claims, user.getEmail(), refreshExpiration);
+    }
+
+    /**
+     * Access token lifetime in seconds
+     */
+    public long getAccessTokenLifetimeSeconds() {
+        return expiration / 1000;
     }
 
     /**
@@ -61,6 +89,28 @@ public class JwtUtil {
         return extractClaim(token, claims -> claims.get("role", String.class));
     }
 
+    /**
+     * Extract token ID (jti) from parsed claims, or null if the token has none
+     */
+    public UUID extractTokenId(Claims claims) {
+        String id = claims.getId();
+        return id != null ? UUID.fromString(id) : null;
+    }
+
+    /**
+     * Check if parsed claims belong to an access token
+     */
+    public boolean isAccessToken(Claims claims) {
+        return ACCESS_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
+    }
+
+    /**
+     * Check if parsed claims belong to a refresh token
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
+    }
+
     /**
      * Extract expiration date from token
      */
@@ -105,12 +155,13 @@ public class JwtUtil {
     /**
      * Create JWT token with claims and subject
      */
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, long lifetime) {
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .expiration(new Date(System.currentTimeMillis() + lifetime))
                 .signWith(getSigningKey())
                 .compact();
     }
@@ -0,0 +1,37 @@
+package com.portfolio.campaignmanager.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Password hashing settings, bound from {@code password-hashing.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost factor (log2 of the rounds). Stored hashes with a lower cost are
+     * rehashed on the next successful login.
+     */
+    private int strength = 10;
+
+    /**
+     * Threads hashing and verifying passwords; defaults to half the available processors.
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hashing requests that may wait for a thread. Requests beyond it are rejected at once.
+     */
+    private int queueCapacity = 32;
+
+    /**
+     * Longest a request waits for its hash, queueing included.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
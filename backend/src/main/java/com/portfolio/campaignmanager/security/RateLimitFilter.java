@@ -0,0 +1,117 @@
+package com.portfolio.campaignmanager.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.campaignmanager.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits requests per endpoint group before authentication, so a throttled request
+ * never reaches the database.
+ *
+ * <p>Authenticated groups are keyed by the user in the bearer token, whose signature is
+ * checked without loading the user; anonymous requests and {@code IP} groups are keyed by
+ * the client address. Refused requests get 429 with {@code Retry-After} and are counted in
+ * {@code http.server.requests.throttled} (tag {@code group}).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RateLimitProperties.Group group = findGroup(request.getRequestURI().substring(request.getContextPath().length()));
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long intervalNanos = group.getPeriod().toNanos() / Math.max(1, group.getRequests());
+        String key = group.getName() + ":" + clientKey(request, group);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(key, intervalNanos, group.effectiveBurst());
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(group.getRequests()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.getRetryAfterNanos() + 999_999_999L));
+        log.debug("Throttled {} {} for {} (retry after {} s)", request.getMethod(), request.getRequestURI(), key, retryAfterSeconds);
+        Counter.builder("http.server.requests.throttled")
+                .description("Requests refused by the rate limiter")
+                .tag("group", group.getName())
+                .register(meterRegistry)
+                .increment();
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Rate limit exceeded, retry after " + retryAfterSeconds + " seconds",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private RateLimitProperties.Group findGroup(String path) {
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            if (pathMatcher.match(group.getPattern(), path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request, RateLimitProperties.Group group) {
+        if (group.getKey() == RateLimitProperties.KeyType.USER) {
+            String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+                try {
+                    return "user:" + jwtUtil.extractUsername(authorizationHeader.substring(BEARER_PREFIX.length()));
+                } catch (Exception e) {
+                    // Invalid tokens are limited by address; authentication rejects them later
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
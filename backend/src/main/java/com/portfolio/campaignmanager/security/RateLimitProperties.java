@@ -0,0 +1,80 @@
+package com.portfolio.campaignmanager.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request rate limits per endpoint group, bound from {@code rate-limit.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Enables rate limiting.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Most buckets kept in memory. Idle buckets are evicted first; beyond the limit new
+     * clients are let through unlimited rather than refused.
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Endpoint groups; a request is limited by the first group whose pattern matches its path.
+     */
+    private List<Group> groups = new ArrayList<>();
+
+    /**
+     * Which identity a group's bucket is kept for.
+     */
+    public enum KeyType {
+        /**
+         * The user named in a valid bearer token, or the client IP for anonymous requests.
+         */
+        USER,
+        /**
+         * The client IP.
+         */
+        IP
+    }
+
+    @Data
+    public static class Group {
+
+        /**
+         * Group name, used in bucket keys and metrics.
+         */
+        private String name;
+
+        /**
+         * Ant-style path pattern, e.g. {@code /api/dashboard/**}.
+         */
+        private String pattern;
+
+        private KeyType key = KeyType.USER;
+
+        /**
+         * Sustained number of requests allowed per {@code period}.
+         */
+        private int requests = 60;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        /**
+         * Requests that may be made back to back after an idle spell; defaults to {@code requests}.
+         */
+        private Integer burst;
+
+        public int effectiveBurst() {
+            return burst != null ? burst : requests;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.portfolio.campaignmanager.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free in-memory rate limiter implementing the generic cell rate algorithm (GCRA), the
+ * arithmetic equivalent of a token bucket.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the
+ * next request; a request is admitted with one compare-and-set, so there is no lock and no
+ * refill task. A bucket whose arrival time has passed is full and indistinguishable from a
+ * new one, which is what lets idle buckets be evicted without changing any decision.</p>
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("rate.limit.buckets", buckets, Map::size)
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Outcome of an admission check.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Decision {
+
+        /**
+         * Whether the request may proceed.
+         */
+        private final boolean allowed;
+
+        /**
+         * Requests left in the current burst.
+         */
+        private final long remaining;
+
+        /**
+         * For refused requests, the time until the request would be admitted.
+         */
+        private final long retryAfterNanos;
+    }
+
+    /**
+     * Takes one request from the bucket of the given key.
+     *
+     * @param key Bucket key
+     * @param intervalNanos Time in which one request is earned back
+     * @param burst Requests that may be made back to back
+     * @return The admission decision
+     */
+    public Decision tryAcquire(String key, long intervalNanos, int burst) {
+        long now = System.nanoTime();
+        AtomicLong bucket = bucket(key, now);
+        if (bucket == null) {
+            return new Decision(true, burst - 1, 0);
+        }
+
+        long window = intervalNanos * burst;
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + intervalNanos;
+            long allowAt = next - window;
+            if (allowAt > now) {
+                return new Decision(false, 0, allowAt - now);
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return new Decision(true, (window - (next - now)) / intervalNanos, 0);
+            }
+        }
+    }
+
+    /**
+     * Number of buckets held in memory.
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Drops full buckets. A request racing with the eviction of its bucket may be admitted
+     * against a fresh bucket, which only errs in the client's favour by one request.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets, {} remain", evicted, buckets.size());
+        }
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            evictIdle();
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                log.warn("Rate limiter is tracking {} buckets, not limiting new client {}", buckets.size(), key);
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
@@ -0,0 +1,185 @@
+package com.portfolio.campaignmanager.security;
+
+import com.portfolio.campaignmanager.model.entity.RevokedToken;
+import com.portfolio.campaignmanager.repository.RevokedTokenRepository;
+import com.portfolio.campaignmanager.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory denylist of revoked JWTs, held as a Bloom filter in front of an exact set.
+ *
+ * <p>Almost every token checked is not revoked, and the Bloom filter answers that with a few
+ * array reads and no allocation. Only on a (rare) positive is the exact set consulted, which
+ * rules out false positives. Both are built from the {@code revoked_tokens} table: new
+ * revocations by other instances are picked up every {@code jwt.revocation.sync-interval},
+ * and the whole list is rebuilt every {@code jwt.revocation.rebuild-interval}, which drops
+ * tokens that have expired anyway and deletes their rows. Revocations made on this instance
+ * take effect here at once.</p>
+ *
+ * <p>Metrics: {@code auth.tokens.revoked} is the number of revoked, unexpired tokens held,
+ * and {@code auth.tokens.denylist.false.positives} counts Bloom filter false positives.</p>
+ */
+@Component
+@Slf4j
+public class TokenDenylist {
+
+    /**
+     * Overlap between consecutive syncs, covering clock skew between instances and
+     * revocations committed while the previous sync ran.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationProperties properties;
+    private final Counter falsePositives;
+
+    private volatile Snapshot snapshot;
+    private volatile LocalDateTime lastSync;
+
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository, TokenRevocationProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.snapshot = new Snapshot(new BloomFilter(properties.getExpectedTokens(), properties.getFalsePositiveRate()),
+                new ConcurrentHashMap<>());
+        this.falsePositives = Counter.builder("auth.tokens.denylist.false.positives")
+                .description("Token checks where the Bloom filter matched a token that is not revoked")
+                .register(meterRegistry);
+        Gauge.builder("auth.tokens.revoked", this, denylist -> denylist.snapshot.revoked.size())
+                .description("Revoked, unexpired tokens held in the denylist")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bloom filter over the revoked token IDs and the exact map of revoked token ID to expiry.
+     */
+    private static final class Snapshot {
+
+        private final BloomFilter filter;
+        private final Map<UUID, LocalDateTime> revoked;
+
+        private Snapshot(BloomFilter filter, Map<UUID, LocalDateTime> revoked) {
+            this.filter = filter;
+            this.revoked = revoked;
+        }
+    }
+
+    /**
+     * Whether the token with the given ID has been revoked. Lock-free and allocation-free.
+     */
+    public boolean isRevoked(UUID jti) {
+        Snapshot current = snapshot;
+        if (!current.filter.mightContain(jti)) {
+            return false;
+        }
+        if (current.revoked.containsKey(jti)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revokes the token with the given ID until its expiry.
+     *
+     * @return true if the token was revoked by this call, false if it already was
+     */
+    public boolean revoke(UUID jti, LocalDateTime expiresAt) {
+        boolean revoked = revokedTokenRepository.revoke(jti, expiresAt, LocalDateTime.now()) == 1;
+        add(jti, expiresAt);
+        return revoked;
+    }
+
+    /**
+     * Loads the full denylist once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Adds revocations recorded by other instances since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT15S}",
+            initialDelayString = "${jwt.revocation.sync-interval:PT15S}")
+    public void sync() {
+        LocalDateTime since = lastSync;
+        if (since == null) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> tokens = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now);
+        for (RevokedToken token : tokens) {
+            add(token.getJti(), token.getExpiresAt());
+        }
+        lastSync = now.minus(SYNC_OVERLAP);
+
+        if (snapshot.revoked.size() > snapshot.filter.capacity()) {
+            resize();
+        }
+    }
+
+    /**
+     * Rebuilds the denylist from the table, dropping tokens that have expired, and deletes
+     * the rows of expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT1H}",
+            initialDelayString = "${jwt.revocation.rebuild-interval:PT1H}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> tokens = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        Map<UUID, LocalDateTime> revoked = new ConcurrentHashMap<>(tokens.size() * 2);
+        for (RevokedToken token : tokens) {
+            revoked.put(token.getJti(), token.getExpiresAt());
+        }
+        synchronized (this) {
+            // Keep revocations made on this instance while the table was read
+            snapshot.revoked.forEach((jti, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    revoked.putIfAbsent(jti, expiresAt);
+                }
+            });
+            snapshot = build(revoked);
+            lastSync = now.minus(SYNC_OVERLAP);
+        }
+        log.info("Rebuilt token denylist: {} revoked tokens, {} expired revocations deleted", revoked.size(), deleted);
+    }
+
+    private synchronized void add(UUID jti, LocalDateTime expiresAt) {
+        Snapshot current = snapshot;
+        // Exact set first: a concurrent reader that sees the filter bit must find the entry
+        current.revoked.put(jti, expiresAt);
+        current.filter.add(jti);
+    }
+
+    private synchronized void resize() {
+        snapshot = build(new ConcurrentHashMap<>(snapshot.revoked));
+        log.info("Resized token denylist filter for {} revoked tokens", snapshot.filter.capacity());
+    }
+
+    private Snapshot build(Map<UUID, LocalDateTime> revoked) {
+        long capacity = Math.max(properties.getExpectedTokens(), revoked.size() * 2L);
+        BloomFilter filter = new BloomFilter(capacity, properties.getFalsePositiveRate());
+        revoked.keySet().forEach(filter::add);
+        return new Snapshot(filter, revoked);
+    }
+}
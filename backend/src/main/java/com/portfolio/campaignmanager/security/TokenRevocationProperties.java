@@ -0,0 +1,28 @@
+package com.portfolio.campaignmanager.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token revocation denylist settings, bound from {@code jwt.revocation.*}.
+ * The sync and rebuild intervals are read by the scheduler from
+ * {@code jwt.revocation.sync-interval} and {@code jwt.revocation.rebuild-interval}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.revocation")
+public class TokenRevocationProperties {
+
+    /**
+     * Revoked, unexpired tokens the Bloom filter is sized for. The filter is resized when
+     * more are held.
+     */
+    private long expectedTokens = 100_000;
+
+    /**
+     * Bloom filter false-positive rate at the expected size. False positives only cost a
+     * lookup in the exact set, never a rejected token.
+     */
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,323 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.jobs.LeasedJobRunner;
+import com.portfolio.campaignmanager.model.entity.AssetBlob;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import com.portfolio.campaignmanager.repository.AssetBlobRepository;
+import com.portfolio.campaignmanager.repository.CampaignAssetRepository;
+import com.portfolio.campaignmanager.storage.AssetStorage;
+import com.portfolio.campaignmanager.storage.StorageProperties;
+import com.portfolio.campaignmanager.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service class for content-addressed asset storage.
+ *
+ * <p>Uploads are streamed to a staging key while their SHA-256 is computed. The content is
+ * then either promoted to its content key {@code blobs/<sha256>} as a new {@link AssetBlob},
+ * or, if identical content is already stored, the staging object is discarded and the
+ * existing blob gains a reference. Blobs whose last reference is released are deleted by a
+ * scheduled collector after {@code storage.blob-gc-grace}, together with their derivatives.
+ * A new blob is committed as pending before its content is moved into place, so the move
+ * runs outside any transaction.</p>
+ *
+ * <p>Dedup outcomes are counted in {@code assets.uploads} (tag {@code dedup}: {@code miss},
+ * {@code hit} or {@code client_hash}) and the avoided storage in {@code assets.dedup.bytes.saved}.</p>
+ */
+@Service
+@Slf4j
+public class AssetBlobService {
+    
+    private static final String STAGING_PREFIX = "staging/";
+    private static final String BLOB_PREFIX = "blobs/";
+    private static final String DERIVATIVE_PREFIX = "derivatives/";
+    private static final String GC_JOB_NAME = "blob-gc";
+    
+    private final AssetBlobRepository assetBlobRepository;
+    private final CampaignAssetRepository campaignAssetRepository;
+    private final AssetStorage assetStorage;
+    private final StorageProperties storageProperties;
+    private final LeasedJobRunner jobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter misses;
+    private final Counter hits;
+    private final Counter clientHashHits;
+    private final Counter bytesSaved;
+    
+    public AssetBlobService(AssetBlobRepository assetBlobRepository,
+                            CampaignAssetRepository campaignAssetRepository,
+                            AssetStorage assetStorage,
+                            StorageProperties storageProperties,
+                            LeasedJobRunner jobRunner,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.assetBlobRepository = assetBlobRepository;
+        this.campaignAssetRepository = campaignAssetRepository;
+        this.assetStorage = assetStorage;
+        this.storageProperties = storageProperties;
+        this.jobRunner = jobRunner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.misses = uploads(meterRegistry, "miss");
+        this.hits = uploads(meterRegistry, "hit");
+        this.clientHashHits = uploads(meterRegistry, "client_hash");
+        this.bytesSaved = Counter.builder("assets.dedup.bytes.saved")
+                .description("Bytes not stored because identical content already existed")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+    
+    private static Counter uploads(MeterRegistry meterRegistry, String dedup) {
+        return Counter.builder("assets.uploads")
+                .description("Asset uploads by deduplication outcome")
+                .tag("dedup", dedup)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Streams content into storage and returns the blob holding it, with one new reference
+     * taken for the caller. No database connection is held while the content streams, nor
+     * while new content is moved to its content key: the blob row is committed as pending
+     * first, and concurrent uploads of the same content poll until it is stored.
+     *
+     * @param content Content to store
+     * @param contentType MIME type of the content
+     * @return The blob holding the content
+     */
+    public AssetBlob store(InputStream content, String contentType) {
+        String stagingKey = STAGING_PREFIX + UUID.randomUUID();
+        StoredObject staged = assetStorage.store(stagingKey, content, contentType);
+        String sha256 = staged.getSha256();
+        String blobKey = blobKey(sha256);
+        
+        try {
+            boolean inserted = assetBlobRepository.upsertReference(
+                    sha256, blobKey, assetStorage.url(blobKey), staged.getSize(), pendingSeconds());
+            
+            boolean moved;
+            try {
+                moved = inserted
+                        ? moveIntoPlace(stagingKey, blobKey, sha256)
+                        : awaitStored(stagingKey, blobKey, sha256);
+            } catch (RuntimeException e) {
+                assetBlobRepository.removeReferences(sha256, 1, LocalDateTime.now());
+                throw e;
+            }
+            
+            if (moved) {
+                misses.increment();
+            } else {
+                hits.increment();
+                bytesSaved.increment(staged.getSize());
+                deleteQuietly(stagingKey);
+                log.debug("Deduplicated upload of {} bytes to blob {}", staged.getSize(), sha256);
+            }
+        } catch (RuntimeException e) {
+            deleteQuietly(stagingKey);
+            throw e;
+        }
+        
+        return assetBlobRepository.findById(sha256)
+                .orElseThrow(() -> new IllegalStateException("Blob " + sha256 + " vanished after upload"));
+    }
+    
+    /**
+     * Moves staged content to the content key of a pending blob owned by this upload and marks
+     * the blob stored. On failure the blob is released to the next upload of the same content.
+     */
+    private boolean moveIntoPlace(String stagingKey, String blobKey, String sha256) {
+        try {
+            assetStorage.move(stagingKey, blobKey);
+        } catch (RuntimeException e) {
+            assetBlobRepository.abandonPending(sha256);
+            throw e;
+        }
+        assetBlobRepository.markStored(sha256);
+        return true;
+    }
+    
+    /**
+     * Waits until another upload has stored the blob's content, without holding a connection
+     * between checks. If that upload failed or missed its deadline, this upload's staged copy
+     * is moved into place instead.
+     *
+     * @return true if this upload's copy was moved into place
+     */
+    private boolean awaitStored(String stagingKey, String blobKey, String sha256) {
+        while (true) {
+            boolean pending = assetBlobRepository.isPending(sha256)
+                    .orElseThrow(() -> new IllegalStateException("Blob " + sha256 + " vanished during upload"));
+            if (!pending) {
+                return false;
+            }
+            if (assetBlobRepository.claimPending(sha256, pendingSeconds()) > 0) {
+                log.info("Taking over storing blob {} from an upload that failed or missed its deadline", sha256);
+                return moveIntoPlace(stagingKey, blobKey, sha256);
+            }
+            try {
+                Thread.sleep(storageProperties.getBlobPendingPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for blob " + sha256, e);
+            }
+        }
+    }
+    
+    private double pendingSeconds() {
+        return storageProperties.getBlobPendingTimeout().toMillis() / 1000.0;
+    }
+    
+    /**
+     * Returns the storage key of the blob with the given SHA-256.
+     *
+     * @param sha256 SHA-256 of the content
+     * @return Content-addressed storage key
+     */
+    public static String blobKey(String sha256) {
+        return BLOB_PREFIX + sha256.substring(0, 2) + "/" + sha256;
+    }
+    
+    /**
+     * Returns the storage key of a derivative of the blob with the given SHA-256. Derivatives
+     * are deleted together with their blob.
+     *
+     * @param sha256 SHA-256 of the original content
+     * @param kind Kind of derivative
+     * @return Storage key of the derivative
+     */
+    public static String derivativeKey(String sha256, DerivativeKind kind) {
+        return DERIVATIVE_PREFIX + sha256.substring(0, 2) + "/" + sha256 + "/" + kind.name().toLowerCase();
+    }
+    
+    /**
+     * Takes a reference to already stored content without uploading it again. Only content
+     * the user already has in one of their own campaigns can be reused this way, so a client
+     * cannot obtain content it never uploaded by guessing hashes.
+     *
+     * @param sha256 SHA-256 declared by the client
+     * @param userId The ID of the uploading user
+     * @return The blob with a new reference taken, or empty if the content must be uploaded
+     */
+    @Transactional
+    public Optional<AssetBlob> reuse(String sha256, UUID userId) {
+        if (!campaignAssetRepository.existsByBlobSha256AndCampaignUserId(sha256, userId)
+                || assetBlobRepository.addReference(sha256) == 0) {
+            return Optional.empty();
+        }
+        
+        Optional<AssetBlob> blob = assetBlobRepository.findById(sha256);
+        blob.ifPresent(b -> {
+            clientHashHits.increment();
+            bytesSaved.increment(b.getSize());
+        });
+        return blob;
+    }
+    
+    /**
+     * Releases references to a blob. Joins the caller's transaction so the release commits
+     * together with the asset deletion.
+     *
+     * @param sha256 SHA-256 of the blob
+     * @param count Number of references to release
+     */
+    @Transactional
+    public void release(String sha256, int count) {
+        assetBlobRepository.removeReferences(sha256, count, LocalDateTime.now());
+    }
+    
+    /**
+     * Deletes one chunk of a deleted campaign's assets in its own transaction, releasing
+     * their blob references in the same transaction. Objects of assets stored before
+     * deduplication are deleted from storage once the transaction has committed.
+     *
+     * @param campaignId The ID of the deleted campaign
+     * @param limit Maximum number of assets to delete
+     * @return Number of assets deleted
+     */
+    public int purgeCampaignAssets(UUID campaignId, int limit) {
+        List<String> ownedKeys = new ArrayList<>();
+        Integer purged = transactionTemplate.execute(status -> {
+            List<CampaignAssetRepository.PurgedAsset> assets = campaignAssetRepository.purgeByCampaignId(campaignId, limit);
+            Map<String, Integer> references = new HashMap<>();
+            for (CampaignAssetRepository.PurgedAsset asset : assets) {
+                if (asset.getBlobSha256() != null) {
+                    references.merge(asset.getBlobSha256(), 1, Integer::sum);
+                } else {
+                    ownedKeys.add(asset.getS3Key());
+                }
+            }
+            references.forEach((sha256, count) ->
+                    assetBlobRepository.removeReferences(sha256, count, LocalDateTime.now()));
+            return assets.size();
+        });
+        
+        for (String key : ownedKeys) {
+            try {
+                assetStorage.delete(key);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete object {} of purged asset: {}", key, e.getMessage());
+            }
+        }
+        return purged != null ? purged : 0;
+    }
+    
+    /**
+     * Deletes blobs that have been unreferenced for longer than the grace period, one locked
+     * batch per transaction, on one instance at a time. A concurrent upload of the same content
+     * blocks on the row lock, and inserts and uploads the blob again once the row is gone.
+     */
+    @Scheduled(fixedDelayString = "${storage.blob-gc-interval:PT15M}",
+            initialDelayString = "${storage.blob-gc-interval:PT15M}")
+    public void collectGarbage() {
+        jobRunner.run(GC_JOB_NAME, storageProperties.getBlobGcInterval(), shard -> deleteOrphans());
+    }
+    
+    private void deleteOrphans() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(storageProperties.getBlobGcGrace());
+        int batchSize = storageProperties.getBlobGcBatchSize();
+        int deleted = 0;
+        
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<AssetBlob> orphans = assetBlobRepository.lockOrphans(cutoff, batchSize);
+                for (AssetBlob orphan : orphans) {
+                    for (DerivativeKind kind : DerivativeKind.values()) {
+                        assetStorage.delete(derivativeKey(orphan.getSha256(), kind));
+                    }
+                    assetStorage.delete(orphan.getStorageKey());
+                    assetBlobRepository.delete(orphan);
+                }
+                return orphans.size();
+            });
+            deleted += batch;
+        } while (batch == batchSize);
+        
+        if (deleted > 0) {
+            log.info("Deleted {} unreferenced asset blobs", deleted);
+        }
+    }
+    
+    private void deleteQuietly(String key) {
+        try {
+            assetStorage.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete staged upload {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.storage.AssetCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * Locally cached content of an asset, ready to be served. The cached file stays pinned
+ * until this is closed.
+ */
+@Getter
+@AllArgsConstructor
+public class AssetContent implements AutoCloseable {
+
+    private final String fileName;
+
+    private final String contentType;
+
+    /**
+     * Lower-case hex SHA-256 of the content, or null for assets uploaded before checksums.
+     */
+    private final String checksumSha256;
+
+    private final AssetCache.Lease lease;
+
+    public Path getPath() {
+        return lease.path();
+    }
+
+    public long getSize() {
+        return lease.size();
+    }
+
+    @Override
+    public void close() {
+        lease.close();
+    }
+}
@@ -0,0 +1,444 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.exception.AssetTooLargeException;
+import com.portfolio.campaignmanager.exception.BadRequestException;
+import com.portfolio.campaignmanager.exception.ResourceNotFoundException;
+import com.portfolio.campaignmanager.exception.UnauthorizedException;
+import com.portfolio.campaignmanager.model.dto.AssetPageResponse;
+import com.portfolio.campaignmanager.model.dto.AssetSummaryResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignAssetResponse;
+import com.portfolio.campaignmanager.model.entity.AssetBlob;
+import com.portfolio.campaignmanager.model.entity.AssetDerivative;
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import com.portfolio.campaignmanager.model.entity.CampaignAsset;
+import com.portfolio.campaignmanager.model.entity.User;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import com.portfolio.campaignmanager.repository.AssetDerivativeRepository;
+import com.portfolio.campaignmanager.repository.CampaignAssetRepository;
+import com.portfolio.campaignmanager.repository.CampaignRepository;
+import com.portfolio.campaignmanager.repository.UserRepository;
+import com.portfolio.campaignmanager.storage.AssetCache;
+import com.portfolio.campaignmanager.storage.AssetStorage;
+import com.portfolio.campaignmanager.storage.StorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for campaign asset operations.
+ * Streams uploads into deduplicated storage through {@link AssetBlobService} and records them
+ * as {@link CampaignAsset} rows. Image uploads are queued for thumbnail and preview
+ * generation by {@link DerivativeService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssetService {
+    
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_CAMPAIGNS = 100;
+    private static final int MAX_SUMMARIES_PER_CAMPAIGN = 50;
+    private static final String SORT_UPLOADED_AT = "uploadedAt";
+    private static final String SORT_FILE_SIZE = "fileSize";
+    
+    private final CampaignRepository campaignRepository;
+    private final CampaignAssetRepository campaignAssetRepository;
+    private final UserRepository userRepository;
+    private final AssetStorage assetStorage;
+    private final AssetBlobService assetBlobService;
+    private final DerivativeService derivativeService;
+    private final AssetDerivativeRepository assetDerivativeRepository;
+    private final AssetCache assetCache;
+    private final StorageProperties storageProperties;
+    
+    /**
+     * Gets the current authenticated user's ID from the security context.
+     *
+     * @return UUID of the current authenticated user
+     * @throws UnauthorizedException if no user is authenticated
+     */
+    private UUID getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new UnauthorizedException("No authenticated user found");
+        }
+        
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetails)) {
+            throw new UnauthorizedException("Invalid authentication principal");
+        }
+        
+        UserDetails userDetails = (UserDetails) principal;
+        String email = userDetails.getUsername();
+        
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        
+        return user.getId();
+    }
+    
+    /**
+     * Uploads an asset for a campaign owned by the current user.
+     * The content is streamed to storage in fixed-size chunks and deduplicated by SHA-256;
+     * no database connection is held while the upload is in progress. If the client declares
+     * the SHA-256 of content the user has already uploaded, the body is not read at all.
+     *
+     * @param campaignId The ID of the campaign
+     * @param fileName Original file name
+     * @param contentType MIME type of the content
+     * @param contentLength Declared content length, or -1 if unknown
+     * @param declaredSha256 SHA-256 declared by the client, or null
+     * @param content Request body stream
+     * @return CampaignAssetResponse describing the stored asset
+     * @throws ResourceNotFoundException if the campaign is not found
+     * @throws UnauthorizedException if the user doesn't own the campaign
+     * @throws AssetTooLargeException if the content exceeds the maximum asset size
+     */
+    public CampaignAssetResponse uploadAsset(UUID campaignId, String fileName, String contentType,
+                                             long contentLength, String declaredSha256, InputStream content) {
+        UUID userId = getCurrentUserId();
+        Campaign campaign = getOwnedCampaign(campaignId, userId);
+        
+        long maxSize = storageProperties.getMaxAssetSize().toBytes();
+        if (contentLength > maxSize) {
+            throw new AssetTooLargeException("Asset exceeds the maximum size of " + maxSize + " bytes");
+        }
+        
+        String safeFileName = sanitizeFileName(fileName);
+        log.info("Uploading asset {} for campaign {}", safeFileName, campaignId);
+        
+        Optional<AssetBlob> reused = isSha256(declaredSha256)
+                ? assetBlobService.reuse(declaredSha256.toLowerCase(), userId)
+                : Optional.empty();
+        AssetBlob blob = reused.orElseGet(() -> assetBlobService.store(content, contentType));
+        
+        CampaignAsset asset = new CampaignAsset();
+        asset.setCampaign(campaign);
+        asset.setFileName(safeFileName);
+        asset.setS3Key("campaigns/" + campaignId + "/" + UUID.randomUUID() + "/" + safeFileName);
+        asset.setS3Url(blob.getUrl());
+        asset.setFileType(contentType);
+        asset.setFileSize(blob.getSize());
+        asset.setChecksumSha256(blob.getSha256());
+        asset.setBlobSha256(blob.getSha256());
+        
+        CampaignAsset savedAsset;
+        try {
+            savedAsset = campaignAssetRepository.save(asset);
+            log.info("Stored asset {} ({} bytes, sha256 {}, reused: {})",
+                    savedAsset.getId(), blob.getSize(), blob.getSha256(), reused.isPresent());
+        } catch (RuntimeException e) {
+            assetBlobService.release(blob.getSha256(), 1);
+            throw e;
+        }
+        
+        try {
+            derivativeService.enqueue(savedAsset);
+        } catch (RuntimeException e) {
+            // The upload itself succeeded; the asset is just listed without previews
+            log.warn("Failed to enqueue derivative generation for asset {}: {}", savedAsset.getId(), e.getMessage());
+        }
+        
+        return CampaignAssetResponse.fromEntity(savedAsset);
+    }
+    
+    /**
+     * Retrieves one page of a campaign's assets using keyset pagination, so every page costs
+     * the same no matter how deep the client pages.
+     *
+     * @param campaignId The ID of the campaign
+     * @param fileType Optional MIME type or prefix filter, e.g. {@code image/}
+     * @param sort Sort field: {@code uploadedAt} or {@code fileSize}
+     * @param direction Sort direction: {@code asc} or {@code desc}
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of assets, capped at 200
+     * @return AssetPageResponse with the assets and the cursor of the next page
+     * @throws ResourceNotFoundException if the campaign is not found
+     * @throws UnauthorizedException if the user doesn't own the campaign
+     * @throws BadRequestException if the sort or cursor is invalid
+     */
+    public AssetPageResponse getAssets(UUID campaignId, String fileType, String sort, String direction,
+                                       String cursor, int limit) {
+        UUID userId = getCurrentUserId();
+        getOwnedCampaign(campaignId, userId);
+        
+        String property = parseSortProperty(sort);
+        Sort.Direction sortDirection = parseDirection(direction);
+        ScrollPosition position = cursor == null || cursor.isBlank()
+                ? ScrollPosition.keyset()
+                : decodeCursor(cursor, property, sortDirection);
+        Sort order = Sort.by(sortDirection, property, "id");
+        Limit pageSize = Limit.of(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        
+        Window<CampaignAsset> window = fileType == null || fileType.isBlank()
+                ? campaignAssetRepository.findByCampaignId(campaignId, position, order, pageSize)
+                : campaignAssetRepository.findByCampaignIdAndFileTypeStartingWith(
+                        campaignId, fileType.trim(), position, order, pageSize);
+        
+        List<CampaignAsset> assets = window.getContent();
+        Map<UUID, List<AssetDerivative>> derivatives = assets.isEmpty()
+                ? Map.of()
+                : assetDerivativeRepository.findByAssetIdIn(assets.stream().map(CampaignAsset::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(derivative -> derivative.getAsset().getId()));
+        
+        List<CampaignAssetResponse> items = assets.stream()
+                .map(asset -> CampaignAssetResponse.fromEntity(asset, derivatives.getOrDefault(asset.getId(), List.of())))
+                .collect(Collectors.toList());
+        String nextCursor = window.hasNext() && !assets.isEmpty()
+                ? encodeCursor(assets.get(assets.size() - 1), property, sortDirection)
+                : null;
+        
+        return AssetPageResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Retrieves the newest assets of several campaigns with a single query, for campaign grids.
+     * Campaigns that don't exist or that the user doesn't own map to an empty list.
+     *
+     * @param campaignIds The IDs of the campaigns, at most 100
+     * @param perCampaign Maximum number of assets per campaign, capped at 50
+     * @return Asset summaries by campaign ID, newest first
+     * @throws BadRequestException if too many campaigns are requested
+     */
+    public Map<UUID, List<AssetSummaryResponse>> getAssetSummaries(Collection<UUID> campaignIds, int perCampaign) {
+        UUID userId = getCurrentUserId();
+        
+        Set<UUID> ids = new LinkedHashSet<>(campaignIds);
+        if (ids.size() > MAX_BATCH_CAMPAIGNS) {
+            throw new BadRequestException("At most " + MAX_BATCH_CAMPAIGNS + " campaigns can be requested at once");
+        }
+        
+        Map<UUID, List<AssetSummaryResponse>> summaries = new LinkedHashMap<>();
+        ids.forEach(id -> summaries.put(id, new ArrayList<>()));
+        if (ids.isEmpty()) {
+            return summaries;
+        }
+        
+        int limit = Math.max(1, Math.min(perCampaign, MAX_SUMMARIES_PER_CAMPAIGN));
+        for (CampaignAssetRepository.AssetSummary summary
+                : campaignAssetRepository.findSummariesByCampaignIds(ids, userId, limit)) {
+            summaries.get(summary.getCampaignId()).add(AssetSummaryResponse.fromProjection(summary));
+        }
+        
+        return summaries;
+    }
+    
+    /**
+     * Opens an asset's content for download, fetching it into the local cache if needed.
+     * The returned content must be closed once it has been served.
+     *
+     * @param assetId The ID of the asset
+     * @return The cached content
+     * @throws ResourceNotFoundException if the asset is not found
+     * @throws UnauthorizedException if the user doesn't own the asset's campaign
+     */
+    public AssetContent openAssetContent(UUID assetId) {
+        UUID userId = getCurrentUserId();
+        
+        CampaignAsset asset = campaignAssetRepository.findWithOwnerById(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + assetId));
+        
+        // Verify ownership
+        UUID ownerId = asset.getCampaign().getUser().getId();
+        if (!ownerId.equals(userId)) {
+            log.warn("User {} attempted to download asset {} owned by user {}", userId, assetId, ownerId);
+            throw new UnauthorizedException("You don't have permission to access this asset");
+        }
+        
+        String storageKey = asset.getBlobSha256() != null
+                ? AssetBlobService.blobKey(asset.getBlobSha256())
+                : asset.getS3Key();
+        
+        return new AssetContent(asset.getFileName(), asset.getFileType(), asset.getChecksumSha256(),
+                assetCache.acquire(storageKey));
+    }
+    
+    /**
+     * Opens a generated thumbnail or preview of an asset for reading, with the same
+     * ownership check as {@link #openAssetContent}. The caller must close the returned
+     * content.
+     *
+     * @param assetId The ID of the asset
+     * @param kind The kind of derivative
+     * @return The derivative's content, backed by a file in the local cache
+     * @throws ResourceNotFoundException if the asset is not found or the derivative has not been generated
+     * @throws UnauthorizedException if the user doesn't own the asset's campaign
+     */
+    public AssetContent openDerivativeContent(UUID assetId, DerivativeKind kind) {
+        UUID userId = getCurrentUserId();
+        
+        CampaignAsset asset = campaignAssetRepository.findWithOwnerById(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + assetId));
+        
+        // Verify ownership
+        UUID ownerId = asset.getCampaign().getUser().getId();
+        if (!ownerId.equals(userId)) {
+            log.warn("User {} attempted to download the {} of asset {} owned by user {}",
+                    userId, kind, assetId, ownerId);
+            throw new UnauthorizedException("You don't have permission to access this asset");
+        }
+        
+        AssetDerivative derivative = assetDerivativeRepository.findByAssetIdAndKind(assetId, kind)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No " + kind.name().toLowerCase(Locale.ROOT) + " for asset with id: " + assetId));
+        
+        String extension = "image/png".equals(derivative.getContentType()) ? ".png" : ".jpg";
+        return new AssetContent(kind.name().toLowerCase(Locale.ROOT) + extension, derivative.getContentType(),
+                null, assetCache.acquire(derivative.getStorageKey()));
+    }
+    
+    /**
+     * Deletes an asset and releases its reference to the shared content, which is deleted
+     * once no asset references it any more.
+     *
+     * @param assetId The ID of the asset to delete
+     * @throws ResourceNotFoundException if the asset is not found
+     * @throws UnauthorizedException if the user doesn't own the asset's campaign
+     */
+    @Transactional
+    public void deleteAsset(UUID assetId) {
+        UUID userId = getCurrentUserId();
+        
+        CampaignAsset asset = campaignAssetRepository.findById(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + assetId));
+        
+        // Verify ownership
+        UUID ownerId = asset.getCampaign().getUser().getId();
+        if (!ownerId.equals(userId)) {
+            log.warn("User {} attempted to delete asset {} owned by user {}", userId, assetId, ownerId);
+            throw new UnauthorizedException("You don't have permission to delete this asset");
+        }
+        
+        campaignAssetRepository.delete(asset);
+        
+        if (asset.getBlobSha256() != null) {
+            assetBlobService.release(asset.getBlobSha256(), 1);
+            log.info("Successfully deleted asset with id: {}", assetId);
+            return;
+        }
+        
+        // Assets stored before deduplication own their object
+        String key = asset.getS3Key();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    assetStorage.delete(key);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to delete stored object {} for asset {}: {}", key, assetId, e.getMessage());
+                }
+            }
+        });
+        
+        log.info("Successfully deleted asset with id: {}", assetId);
+    }
+    
+    private Campaign getOwnedCampaign(UUID campaignId, UUID userId) {
+        Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + campaignId));
+        
+        // Verify ownership
+        if (!campaign.getUser().getId().equals(userId)) {
+            log.warn("User {} attempted to access assets of campaign {} owned by user {}",
+                    userId, campaignId, campaign.getUser().getId());
+            throw new UnauthorizedException("You don't have permission to access this campaign");
+        }
+        
+        return campaign;
+    }
+    
+    private static String parseSortProperty(String sort) {
+        if (sort == null || sort.isBlank() || SORT_UPLOADED_AT.equals(sort)) {
+            return SORT_UPLOADED_AT;
+        }
+        if (SORT_FILE_SIZE.equals(sort)) {
+            return SORT_FILE_SIZE;
+        }
+        throw new BadRequestException("Unsupported sort: " + sort + " (expected uploadedAt or fileSize)");
+    }
+    
+    private static Sort.Direction parseDirection(String direction) {
+        if (direction == null || direction.isBlank()) {
+            return Sort.Direction.DESC;
+        }
+        return Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Unsupported direction: " + direction + " (expected asc or desc)"));
+    }
+    
+    /**
+     * Encodes the sort values of the last asset of a page as an opaque cursor. The cursor also
+     * records the sort, so it cannot be replayed against a different order.
+     */
+    private static String encodeCursor(CampaignAsset last, String property, Sort.Direction direction) {
+        Object value = SORT_FILE_SIZE.equals(property) ? last.getFileSize() : last.getUploadedAt();
+        String raw = property + "|" + direction + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static ScrollPosition decodeCursor(String cursor, String property, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(property) || !parts[1].equals(direction.name())) {
+                throw new BadRequestException("Cursor does not match the requested sort");
+            }
+            
+            Object value = SORT_FILE_SIZE.equals(property) ? Long.valueOf(parts[2]) : LocalDateTime.parse(parts[2]);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(property, value);
+            keys.put("id", UUID.fromString(parts[3]));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+    
+    private static boolean isSha256(String value) {
+        return value != null && value.matches("[0-9a-fA-F]{64}");
+    }
+    
+    /**
+     * Strips any path components and characters that are unsafe in storage keys.
+     */
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName == null ? "" : fileName;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.isBlank() || name.matches("\\.+")) {
+            name = "asset";
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(name.length() - MAX_FILE_NAME_LENGTH) : name;
+    }
+}
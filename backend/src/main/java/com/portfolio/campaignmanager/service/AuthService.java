@@ -3,11 +3,15 @@ package com.portfolio.campaignmanager.service;
 import com.portfolio.campaignmanager.exception.ResourceNotFoundException;
 import com.portfolio.campaignmanager.model.dto.AuthRequest;
 import com.portfolio.campaignmanager.model.dto.AuthResponse;
+import com.portfolio.campaignmanager.model.dto.RefreshTokenRequest;
 import com.portfolio.campaignmanager.model.dto.RegisterRequest;
 import com.portfolio.campaignmanager.model.entity.User;
 import com.portfolio.campaignmanager.model.enums.UserRole;
 import com.portfolio.campaignmanager.repository.UserRepository;
 import com.portfolio.campaignmanager.security.JwtUtil;
+import com.portfolio.campaignmanager.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -17,28 +21,33 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
 
 /**
  * Service class for handling user authentication and registration.
- * Manages user login, registration, and JWT token generation.
+ * Manages user login, registration, JWT token generation, refresh and revocation.
+ * Methods are deliberately not transactional: password hashing can wait for the bounded
+ * hashing pool, and no database connection should be held meanwhile.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final TokenDenylist tokenDenylist;
 
     /**
      * Register a new user account.
      *
      * @param request Registration request containing user details
-     * @return AuthResponse with JWT token and user information
+     * @return AuthResponse with JWT tokens and user information
      * @throws DataIntegrityViolationException if email already exists
      */
     public AuthResponse register(RegisterRequest request) {
@@ -61,23 +70,14 @@ public class AuthService {
         User savedUser = userRepository.save(user);
         log.info("User registered successfully with ID: {} and email: {}", savedUser.getId(), savedUser.getEmail());
         
-        // Generate JWT token
-        String token = jwtUtil.generateToken(savedUser);
-        
-        return AuthResponse.of(
-                token,
-                savedUser.getId(),
-                savedUser.getEmail(),
-                savedUser.getName(),
-                savedUser.getRole().name()
-        );
+        return issueTokens(savedUser);
     }
 
     /**
-     * Authenticate user and generate JWT token.
+     * Authenticate user and generate JWT tokens.
      *
      * @param request Authentication request containing email and password
-     * @return AuthResponse with JWT token and user information
+     * @return AuthResponse with JWT tokens and user information
      * @throws BadCredentialsException if credentials are invalid
      */
     public AuthResponse login(AuthRequest request) {
@@ -98,20 +98,87 @@ public class AuthService {
             
             log.info("User authenticated successfully: {}", user.getEmail());
             
-            // Generate JWT token
-            String token = jwtUtil.generateToken(user);
-            
-            return AuthResponse.of(
-                    token,
-                    user.getId(),
-                    user.getEmail(),
-                    user.getName(),
-                    user.getRole().name()
-            );
+            return issueTokens(user);
             
         } catch (BadCredentialsException e) {
             log.warn("Authentication failed for email: {}", request.getEmail());
             throw new BadCredentialsException("Invalid email or password");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Exchange a refresh token for a new access and refresh token.
+     * Refresh tokens are single-use: the presented token is revoked, so a stolen token
+     * that has already been used is worthless.
+     *
+     * @param request Request containing the refresh token
+     * @return AuthResponse with new JWT tokens and user information
+     * @throws BadCredentialsException if the refresh token is invalid, expired, revoked or already used
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        Claims claims = parse(request.getRefreshToken());
+        if (claims == null || !jwtUtil.isRefreshToken(claims)) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        
+        UUID tokenId = jwtUtil.extractTokenId(claims);
+        if (tokenId == null || tokenDenylist.isRevoked(tokenId) || !tokenDenylist.revoke(tokenId, expiresAt(claims))) {
+            log.warn("Rejected revoked refresh token for user: {}", claims.getSubject());
+            throw new BadCredentialsException("Refresh token has been revoked");
+        }
+        
+        User user = userRepository.findById(UUID.fromString(claims.get("userId", String.class)))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        
+        log.debug("Refreshed tokens for user: {}", user.getEmail());
+        return issueTokens(user);
+    }
+    
+    /**
+     * Revoke the given access token and refresh token. Tokens that are invalid or
+     * already expired are ignored.
+     *
+     * @param accessToken Access token from the Authorization header, may be null
+     * @param refreshToken Refresh token from the request body, may be null
+     */
+    public void logout(String accessToken, String refreshToken) {
+        for (String token : new String[] {accessToken, refreshToken}) {
+            Claims claims = parse(token);
+            UUID tokenId = claims != null ? jwtUtil.extractTokenId(claims) : null;
+            if (tokenId != null) {
+                tokenDenylist.revoke(tokenId, expiresAt(claims));
+                log.info("Revoked token of user: {}", claims.getSubject());
+            }
+        }
+    }
+    
+    private AuthResponse issueTokens(User user) {
+        return AuthResponse.of(
+                jwtUtil.generateToken(user),
+                jwtUtil.generateRefreshToken(user),
+                jwtUtil.getAccessTokenLifetimeSeconds(),
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getRole().name()
+        );
+    }
+    
+    /**
+     * Parse and verify a token, returning null if it is missing, invalid or expired.
+     */
+    private Claims parse(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return jwtUtil.extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private static LocalDateTime expiresAt(Claims claims) {
+        return LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,119 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.audit.AuditLog;
+import com.portfolio.campaignmanager.config.CampaignLifecycleProperties;
+import com.portfolio.campaignmanager.jobs.LeasedJobRunner;
+import com.portfolio.campaignmanager.jobs.Shard;
+import com.portfolio.campaignmanager.model.enums.AuditAction;
+import com.portfolio.campaignmanager.model.enums.CampaignStatus;
+import com.portfolio.campaignmanager.repository.CampaignRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Moves campaigns through their lifecycle by date: campaigns in one of
+ * {@code campaigns.lifecycle.activate-from} become ACTIVE once their start date is reached,
+ * and campaigns in one of {@code campaigns.lifecycle.complete-from} become COMPLETED once their
+ * end date has passed.
+ *
+ * <p>Each transition is a set-based UPDATE of at most {@code campaigns.lifecycle.batch-size}
+ * rows, found through the (status, start_date) and (status, end_date) indexes and repeated
+ * until no due campaign is left. Campaigns are split into {@code campaigns.lifecycle.shards} ID
+ * ranges leased through {@link LeasedJobRunner}, so instances share the work instead of repeating
+ * it. Rows are also claimed with {@code SKIP LOCKED}, so a shard running twice after a lapsed
+ * lease never transitions a campaign twice. Transitioned campaigns move in the change sequence,
+ * so delta sync clients pick up the new status, and are audited without a user.</p>
+ *
+ * <p>Transitions are counted in {@code campaigns.lifecycle.transitions} by {@code status}.</p>
+ */
+@Service
+@Slf4j
+public class CampaignLifecycleService {
+
+    private static final String JOB_NAME = "campaign-lifecycle";
+    private static final String AUDIT_ENTITY_TYPE = "campaign";
+
+    private final CampaignRepository campaignRepository;
+    private final AuditLog auditLog;
+    private final LeasedJobRunner jobRunner;
+    private final CampaignLifecycleProperties properties;
+    private final Counter activated;
+    private final Counter completed;
+
+    public CampaignLifecycleService(CampaignRepository campaignRepository,
+                                    AuditLog auditLog,
+                                    LeasedJobRunner jobRunner,
+                                    CampaignLifecycleProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.campaignRepository = campaignRepository;
+        this.auditLog = auditLog;
+        this.jobRunner = jobRunner;
+        this.properties = properties;
+        this.activated = transitions(meterRegistry, CampaignStatus.ACTIVE);
+        this.completed = transitions(meterRegistry, CampaignStatus.COMPLETED);
+    }
+
+    private static Counter transitions(MeterRegistry meterRegistry, CampaignStatus status) {
+        return Counter.builder("campaigns.lifecycle.transitions")
+                .description("Campaigns transitioned automatically by date")
+                .tag("status", status.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${campaigns.lifecycle.interval:PT1M}",
+            initialDelayString = "${campaigns.lifecycle.interval:PT1M}")
+    public void transitionDueCampaigns() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jobRunner.run(JOB_NAME, properties.getShards(), properties.getInterval(), shard -> {
+            // Completions first, so a campaign whose whole run was missed is never activated
+            for (CampaignStatus from : properties.getCompleteFrom()) {
+                transition(shard, from, CampaignStatus.COMPLETED, completed);
+            }
+            for (CampaignStatus from : properties.getActivateFrom()) {
+                transition(shard, from, CampaignStatus.ACTIVE, activated);
+            }
+        });
+    }
+
+    private void transition(Shard shard, CampaignStatus from, CampaignStatus to, Counter counter)
+            throws InterruptedException {
+        int batchSize = properties.getBatchSize();
+        long total = 0;
+
+        List<UUID> batch;
+        do {
+            LocalDate today = LocalDate.now();
+            LocalDateTime now = LocalDateTime.now();
+            batch = to == CampaignStatus.ACTIVE
+                    ? campaignRepository.activateDue(from.name(), today, now,
+                            shard.getLowerBound(), shard.getUpperBound(), batchSize)
+                    : campaignRepository.completeDue(from.name(), today, now,
+                            shard.getLowerBound(), shard.getUpperBound(), batchSize);
+
+            for (UUID campaignId : batch) {
+                auditLog.record(AUDIT_ENTITY_TYPE, campaignId, null, AuditAction.UPDATE,
+                        Map.of("status", from), Map.of("status", to));
+            }
+            counter.increment(batch.size());
+            total += batch.size();
+            if (batch.size() == batchSize) {
+                Thread.sleep(properties.getBatchPause().toMillis());
+            }
+        } while (batch.size() == batchSize);
+
+        if (total > 0) {
+            log.info("Transitioned {} campaigns from {} to {} in shard {}", total, from, to, shard);
+        }
+    }
+}
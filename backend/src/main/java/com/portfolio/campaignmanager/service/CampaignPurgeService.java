@@ -0,0 +1,125 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.config.CampaignPurgeProperties;
+import com.portfolio.campaignmanager.jobs.LeasedJobRunner;
+import com.portfolio.campaignmanager.jobs.Shard;
+import com.portfolio.campaignmanager.repository.CampaignMetricRepository;
+import com.portfolio.campaignmanager.repository.CampaignRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Purges deleted campaigns in the background.
+ *
+ * <p>Deleting a campaign only marks it deleted. This job then deletes its metrics and assets
+ * in chunks of {@code campaigns.purge.chunk-size} rows, each in its own short transaction and
+ * followed by a pause of {@code campaigns.purge.chunk-pause}, so a campaign with years of
+ * history never holds locks for long. Assets release their blob references as they go, and
+ * objects no longer referenced are removed from storage. The campaign row itself stays behind
+ * as a tombstone for delta sync and is deleted once it is older than
+ * {@code campaigns.purge.tombstone-retention}. An interrupted purge simply continues on the next
+ * run. Deleted campaigns are split into {@code campaigns.purge.shards} ID ranges leased through
+ * {@link LeasedJobRunner}, so several instances purge different campaigns at once.</p>
+ *
+ * <p>Purged rows are counted in {@code campaigns.purged.rows} by {@code type}.</p>
+ */
+@Service
+@Slf4j
+public class CampaignPurgeService {
+
+    private static final String JOB_NAME = "campaign-purge";
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignMetricRepository campaignMetricRepository;
+    private final AssetBlobService assetBlobService;
+    private final LeasedJobRunner jobRunner;
+    private final CampaignPurgeProperties properties;
+    private final Counter purgedMetrics;
+    private final Counter purgedAssets;
+    private final Counter purgedCampaigns;
+
+    public CampaignPurgeService(CampaignRepository campaignRepository,
+                                CampaignMetricRepository campaignMetricRepository,
+                                AssetBlobService assetBlobService,
+                                LeasedJobRunner jobRunner,
+                                CampaignPurgeProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.campaignRepository = campaignRepository;
+        this.campaignMetricRepository = campaignMetricRepository;
+        this.assetBlobService = assetBlobService;
+        this.jobRunner = jobRunner;
+        this.properties = properties;
+        this.purgedMetrics = purged(meterRegistry, "metric");
+        this.purgedAssets = purged(meterRegistry, "asset");
+        this.purgedCampaigns = purged(meterRegistry, "campaign");
+    }
+
+    private static Counter purged(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("campaigns.purged.rows")
+                .description("Rows deleted by the purge of deleted campaigns")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${campaigns.purge.interval:PT30S}",
+            initialDelayString = "${campaigns.purge.interval:PT30S}")
+    public void purgeDeletedCampaigns() {
+        jobRunner.run(JOB_NAME, properties.getShards(), properties.getInterval(), this::purgeShard);
+    }
+
+    private void purgeShard(Shard shard) throws InterruptedException {
+        UUID lowerId = shard.getLowerBound();
+        UUID upperId = shard.getUpperBound();
+        for (UUID campaignId : campaignRepository.findUnpurgedDeletedIds(lowerId, upperId,
+                properties.getCampaignsPerRun())) {
+            try {
+                purge(campaignId);
+            } catch (RuntimeException e) {
+                log.error("Failed to purge deleted campaign {}: {}", campaignId, e.getMessage(), e);
+            }
+        }
+        
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getTombstoneRetention());
+        int deleted;
+        do {
+            deleted = campaignRepository.deleteTombstones(cutoff, lowerId, upperId, properties.getChunkSize());
+            purgedCampaigns.increment(deleted);
+            if (deleted > 0) {
+                log.info("Deleted {} campaign tombstones", deleted);
+            }
+        } while (deleted == properties.getChunkSize());
+    }
+
+    private void purge(UUID campaignId) throws InterruptedException {
+        int chunkSize = properties.getChunkSize();
+        long metrics = 0;
+        long assets = 0;
+
+        int deleted;
+        do {
+            deleted = campaignMetricRepository.deleteChunkByCampaignId(campaignId, chunkSize);
+            metrics += deleted;
+            purgedMetrics.increment(deleted);
+            pause();
+        } while (deleted == chunkSize);
+
+        do {
+            deleted = assetBlobService.purgeCampaignAssets(campaignId, chunkSize);
+            assets += deleted;
+            purgedAssets.increment(deleted);
+            pause();
+        } while (deleted == chunkSize);
+
+        log.info("Purged deleted campaign {} ({} metrics, {} assets)", campaignId, metrics, assets);
+    }
+
+    private void pause() throws InterruptedException {
+        Thread.sleep(properties.getChunkPause().toMillis());
+    }
+}
@@ -1,40 +1,86 @@
 package com.portfolio.campaignmanager.service;
 
+import com.portfolio.campaignmanager.audit.AuditLog;
+import com.portfolio.campaignmanager.config.CampaignPurgeProperties;
+import com.portfolio.campaignmanager.exception.BadRequestException;
 import com.portfolio.campaignmanager.exception.ResourceNotFoundException;
 import com.portfolio.campaignmanager.exception.UnauthorizedException;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchCreateRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchGetRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchResponse;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchResult;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchUpdateItem;
+import com.portfolio.campaignmanager.model.dto.CampaignBatchUpdateRequest;
+import com.portfolio.campaignmanager.model.dto.CampaignChangesResponse;
 import com.portfolio.campaignmanager.model.dto.CampaignRequest;
 import com.portfolio.campaignmanager.model.dto.CampaignResponse;
 import com.portfolio.campaignmanager.model.dto.CampaignSummaryResponse;
 import com.portfolio.campaignmanager.model.entity.Campaign;
 import com.portfolio.campaignmanager.model.entity.User;
+import com.portfolio.campaignmanager.model.enums.AuditAction;
 import com.portfolio.campaignmanager.model.enums.CampaignStatus;
 import com.portfolio.campaignmanager.repository.CampaignAssetRepository;
+import com.portfolio.campaignmanager.repository.CampaignAssetRepository.AssetCount;
 import com.portfolio.campaignmanager.repository.CampaignRepository;
+import com.portfolio.campaignmanager.repository.CampaignRepository.CampaignChange;
 import com.portfolio.campaignmanager.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for campaign management operations.
  * Handles business logic for campaign CRUD operations.
+ * Creations, updates and deletions are recorded in the write-behind {@link AuditLog} and
+ * move the campaign to the end of the change sequence read by delta sync.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CampaignService {
     
+    private static final String AUDIT_ENTITY_TYPE = "campaign";
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 500;
+    
+    /**
+     * How long a change must have been made before the change cursor moves past it.
+     */
+    private static final Duration CHANGE_SETTLE_WINDOW = Duration.ofSeconds(5);
+    
     private final CampaignRepository campaignRepository;
     private final UserRepository userRepository;
     private final CampaignAssetRepository campaignAssetRepository;
+    private final AuditLog auditLog;
+    private final CampaignPurgeProperties purgeProperties;
+    private final Validator validator;
     
     /**
      * Gets the current authenticated user's ID from the security context.
@@ -78,19 +124,10 @@ public class CampaignService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         
-        // Create new campaign entity
-        Campaign campaign = new Campaign();
-        campaign.setName(request.getName());
-        campaign.setDescription(request.getDescription());
-        campaign.setBudget(request.getBudget());
-        campaign.setStartDate(request.getStartDate());
-        campaign.setEndDate(request.getEndDate());
-        campaign.setTargetAudience(request.getTargetAudience());
-        campaign.setStatus(request.getStatus() != null ? request.getStatus() : CampaignStatus.DRAFT);
-        campaign.setUser(user);
-        
-        // Save campaign
-        Campaign savedCampaign = campaignRepository.save(campaign);
+        // Create and save new campaign entity
+        Campaign savedCampaign = campaignRepository.save(newCampaign(request, user));
+        auditLog.record(AUDIT_ENTITY_TYPE, savedCampaign.getId(), userId, AuditAction.CREATE,
+                Map.of(), auditSnapshot(savedCampaign));
         
         log.info("Successfully created campaign with id: {} for user: {}", savedCampaign.getId(), userId);
         
@@ -123,36 +160,213 @@ public class CampaignService {
     }
     
     /**
-     * Retrieves all campaigns for the current authenticated user.
+     * Streams the current authenticated user's campaigns, optionally filtered by status.
+     * Campaigns are read with a database cursor inside a read-only transaction and passed on
+     * one at a time, so no list of the user's campaigns is ever built.
+     *
+     * @param status Optional status filter
+     * @param consumer Receives each campaign summary
+     */
+    @Transactional(readOnly = true)
+    public void streamCampaigns(CampaignStatus status, Consumer<CampaignSummaryResponse> consumer) {
+        UUID userId = getCurrentUserId();
+        log.debug("Streaming campaigns with status {} for user: {}", status, userId);
+        
+        try (Stream<CampaignSummaryResponse> campaigns = status != null
+                ? campaignRepository.streamSummariesByUserIdAndStatus(userId, status)
+                : campaignRepository.streamSummariesByUserId(userId)) {
+            campaigns.forEach(consumer);
+        }
+    }
+    
+    /**
+     * Retrieves many campaigns at once. Ownership of all of them is checked with one query
+     * and their asset counts are read with another.
      *
-     * @return List of CampaignSummaryResponse objects
+     * @param request IDs of the campaigns, at most 500
+     * @return One result per ID, in request order
+     * @throws BadRequestException if the batch is too large
      */
-    public List<CampaignSummaryResponse> getAllCampaigns() {
+    @Transactional(readOnly = true)
+    public CampaignBatchResponse batchGetCampaigns(CampaignBatchGetRequest request) {
+        List<UUID> ids = request.getIds();
+        checkBatchSize(ids.size());
         UUID userId = getCurrentUserId();
-        log.debug("Retrieving all campaigns for user: {}", userId);
+        log.debug("Retrieving {} campaigns for user {}", ids.size(), userId);
         
-        List<Campaign> campaigns = campaignRepository.findByUserId(userId);
+        Map<UUID, Campaign> campaigns = findAllByIds(ids);
+        Map<UUID, Long> assetCounts = countAssets(campaigns.keySet());
         
-        return campaigns.stream()
-                .map(this::convertToSummary)
-                .collect(Collectors.toList());
+        List<CampaignBatchResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            Campaign campaign = id != null ? campaigns.get(id) : null;
+            CampaignBatchResult failure = checkBatchAccess(i, id, campaign, userId);
+            results.add(failure != null ? failure : CampaignBatchResult.success(i, HttpStatus.OK.value(),
+                    convertToResponse(campaign, assetCounts.getOrDefault(id, 0L))));
+        }
+        
+        return CampaignBatchResponse.of(results);
     }
     
     /**
-     * Retrieves campaigns filtered by status for the current authenticated user.
+     * Creates many campaigns for the current user in one transaction. Invalid items are
+     * reported and skipped; the valid ones are inserted with batched JDBC statements.
      *
-     * @param status The status to filter by
-     * @return List of CampaignSummaryResponse objects matching the status
+     * @param request The campaigns to create, at most 500
+     * @return One result per item, in request order
+     * @throws BadRequestException if the batch is too large
      */
-    public List<CampaignSummaryResponse> getCampaignsByStatus(CampaignStatus status) {
+    @Transactional
+    public CampaignBatchResponse batchCreateCampaigns(CampaignBatchCreateRequest request) {
+        List<CampaignRequest> items = request.getItems();
+        checkBatchSize(items.size());
         UUID userId = getCurrentUserId();
-        log.debug("Retrieving campaigns with status {} for user: {}", status, userId);
+        log.info("Batch creating {} campaigns for user {}", items.size(), userId);
+        
+        User user = userRepository.getReferenceById(userId);
+        CampaignBatchResult[] results = new CampaignBatchResult[items.size()];
+        Campaign[] created = new Campaign[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            String invalid = validateBatchItem(items.get(i));
+            if (invalid != null) {
+                results[i] = CampaignBatchResult.failure(i, null, HttpStatus.BAD_REQUEST.value(), invalid);
+            } else {
+                created[i] = newCampaign(items.get(i), user);
+            }
+        }
         
-        List<Campaign> campaigns = campaignRepository.findByUserIdAndStatus(userId, status);
+        // One flush writes all inserts as JDBC batches
+        campaignRepository.saveAll(Stream.of(created).filter(Objects::nonNull).toList());
+        campaignRepository.flush();
         
-        return campaigns.stream()
-                .map(this::convertToSummary)
-                .collect(Collectors.toList());
+        for (int i = 0; i < created.length; i++) {
+            if (created[i] != null) {
+                auditLog.record(AUDIT_ENTITY_TYPE, created[i].getId(), userId, AuditAction.CREATE,
+                        Map.of(), auditSnapshot(created[i]));
+                results[i] = CampaignBatchResult.success(i, HttpStatus.CREATED.value(),
+                        convertToResponse(created[i], 0));
+            }
+        }
+        
+        return CampaignBatchResponse.of(List.of(results));
+    }
+    
+    /**
+     * Updates many campaigns in one transaction. Ownership of all of them is checked with one
+     * query, only the fields set in an item are changed, and the updates are written with
+     * batched JDBC statements. Invalid, missing or foreign campaigns are reported and skipped.
+     *
+     * @param request The updates, at most 500
+     * @return One result per item, in request order
+     * @throws BadRequestException if the batch is too large
+     */
+    @Transactional
+    public CampaignBatchResponse batchUpdateCampaigns(CampaignBatchUpdateRequest request) {
+        List<CampaignBatchUpdateItem> items = request.getItems();
+        checkBatchSize(items.size());
+        UUID userId = getCurrentUserId();
+        log.info("Batch updating {} campaigns for user {}", items.size(), userId);
+        
+        Map<UUID, Campaign> campaigns = findAllByIds(items.stream()
+                .filter(Objects::nonNull)
+                .map(CampaignBatchUpdateItem::getId)
+                .toList());
+        
+        CampaignBatchResult[] results = new CampaignBatchResult[items.size()];
+        Set<UUID> updated = new LinkedHashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            CampaignBatchUpdateItem item = items.get(i);
+            String invalid = validateBatchItem(item);
+            if (invalid != null) {
+                results[i] = CampaignBatchResult.failure(i, item != null ? item.getId() : null,
+                        HttpStatus.BAD_REQUEST.value(), invalid);
+                continue;
+            }
+            
+            Campaign campaign = campaigns.get(item.getId());
+            results[i] = checkBatchAccess(i, item.getId(), campaign, userId);
+            if (results[i] == null) {
+                Map<String, Object> before = auditSnapshot(campaign);
+                applyUpdate(item, campaign);
+                auditLog.record(AUDIT_ENTITY_TYPE, campaign.getId(), userId, AuditAction.UPDATE,
+                        before, auditSnapshot(campaign));
+                updated.add(campaign.getId());
+            }
+        }
+        
+        // One flush writes all dirty campaigns as JDBC batches
+        campaignRepository.flush();
+        if (!updated.isEmpty()) {
+            campaignRepository.advanceChangeSeqs(updated);
+        }
+        
+        Map<UUID, Long> assetCounts = countAssets(updated);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                UUID id = items.get(i).getId();
+                results[i] = CampaignBatchResult.success(i, HttpStatus.OK.value(),
+                        convertToResponse(campaigns.get(id), assetCounts.getOrDefault(id, 0L)));
+            }
+        }
+        
+        return CampaignBatchResponse.of(List.of(results));
+    }
+    
+    /**
+     * Retrieves the current user's campaigns created, updated or deleted after a change cursor.
+     * Without a cursor, or with one older than the tombstone retention, all live campaigns are
+     * returned instead and the response is marked as a reset.
+     *
+     * <p>Change sequence numbers are drawn before their transaction commits, so a change can
+     * become visible after one with a higher number. The cursor therefore only moves past
+     * changes older than a short settle window; younger ones are returned but sent again on
+     * the next call, which is harmless because clients upsert by ID.</p>
+     *
+     * @param since Cursor returned by the previous call, or null for a full snapshot
+     * @param limit Maximum number of changes, capped at 1000
+     * @return CampaignChangesResponse with the changes and the next cursor
+     * @throws BadRequestException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CampaignChangesResponse getCampaignChanges(String since, int limit) {
+        UUID userId = getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        int pageSize = Math.max(1, Math.min(limit, MAX_CHANGES_PAGE_SIZE));
+        
+        Long position = since == null || since.isBlank()
+                ? null
+                : decodeChangeCursor(since, now.minus(purgeProperties.getTombstoneRetention()));
+        boolean reset = position == null;
+        long start = reset ? 0 : position;
+        log.debug("Retrieving campaign changes after {} for user: {}", start, userId);
+        
+        List<CampaignChange> changes = campaignRepository.findChangesSince(userId, start, pageSize);
+        
+        List<CampaignSummaryResponse> changed = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        LocalDateTime settled = now.minus(CHANGE_SETTLE_WINDOW);
+        long next = start;
+        boolean advancing = true;
+        for (CampaignChange change : changes) {
+            if (change.getDeletedAt() == null) {
+                changed.add(convertToSummary(change));
+            } else if (!reset) {
+                deleted.add(change.getId());
+            }
+            advancing = advancing && !change.getUpdatedAt().isAfter(settled);
+            if (advancing) {
+                next = change.getChangeSeq();
+            }
+        }
+        
+        return CampaignChangesResponse.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .cursor(encodeChangeCursor(next, now))
+                .hasMore(changes.size() == pageSize && next > start)
+                .reset(reset)
+                .build();
     }
     
     /**
@@ -179,6 +393,8 @@ public class CampaignService {
             throw new UnauthorizedException("You don't have permission to update this campaign");
         }
         
+        Map<String, Object> before = auditSnapshot(campaign);
+        
         // Update campaign fields
         campaign.setName(request.getName());
         campaign.setDescription(request.getDescription());
@@ -192,6 +408,9 @@ public class CampaignService {
         
         // Save updated campaign
         Campaign updatedCampaign = campaignRepository.save(campaign);
+        campaignRepository.advanceChangeSeq(campaignId);
+        auditLog.record(AUDIT_ENTITY_TYPE, campaignId, userId, AuditAction.UPDATE,
+                before, auditSnapshot(updatedCampaign));
         
         log.info("Successfully updated campaign with id: {}", campaignId);
         
@@ -199,7 +418,9 @@ public class CampaignService {
     }
     
     /**
-     * Deletes a campaign.
+     * Deletes a campaign. The campaign is only marked deleted, which hides it from all reads
+     * at once; its metrics, assets and stored content are purged in the background by
+     * {@link CampaignPurgeService}.
      *
      * @param campaignId The ID of the campaign to delete
      * @throws ResourceNotFoundException if the campaign is not found
@@ -220,12 +441,196 @@ public class CampaignService {
             throw new UnauthorizedException("You don't have permission to delete this campaign");
         }
         
-        // Delete campaign (cascade will handle assets and metrics)
-        campaignRepository.delete(campaign);
+        // Mark deleted; children are purged in small chunks in the background
+        campaign.setDeletedAt(LocalDateTime.now());
+        campaignRepository.save(campaign);
+        campaignRepository.advanceChangeSeq(campaignId);
+        auditLog.record(AUDIT_ENTITY_TYPE, campaignId, userId, AuditAction.DELETE,
+                auditSnapshot(campaign), Map.of());
         
         log.info("Successfully deleted campaign with id: {}", campaignId);
     }
     
+    /**
+     * Encodes a position in the change sequence as an opaque cursor. The cursor also records
+     * when it was issued, so cursors older than the tombstone retention can be detected.
+     */
+    private static String encodeChangeCursor(long position, LocalDateTime issuedAt) {
+        long issuedAtMillis = issuedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String raw = position + "|" + issuedAtMillis;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a change cursor.
+     *
+     * @return The position in the change sequence, or null if the cursor was issued before
+     *         {@code oldest} and deletions since then may have been forgotten
+     */
+    private static Long decodeChangeCursor(String cursor, LocalDateTime oldest) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            
+            long position = Long.parseLong(parts[0]);
+            LocalDateTime issuedAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(Long.parseLong(parts[1])), ZoneId.systemDefault());
+            if (position < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return issuedAt.isBefore(oldest) ? null : position;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+    
+    /**
+     * Creates a campaign entity from a request.
+     *
+     * @param request The campaign creation request
+     * @param user The owning user
+     * @return Unsaved campaign entity
+     */
+    private static Campaign newCampaign(CampaignRequest request, User user) {
+        Campaign campaign = new Campaign();
+        campaign.setName(request.getName());
+        campaign.setDescription(request.getDescription());
+        campaign.setBudget(request.getBudget());
+        campaign.setStartDate(request.getStartDate());
+        campaign.setEndDate(request.getEndDate());
+        campaign.setTargetAudience(request.getTargetAudience());
+        campaign.setStatus(request.getStatus() != null ? request.getStatus() : CampaignStatus.DRAFT);
+        campaign.setUser(user);
+        return campaign;
+    }
+    
+    /**
+     * Applies the fields set in a batch update item to a campaign.
+     *
+     * @param item The update
+     * @param campaign The campaign entity
+     */
+    private static void applyUpdate(CampaignBatchUpdateItem item, Campaign campaign) {
+        if (item.getName() != null) {
+            campaign.setName(item.getName());
+        }
+        if (item.getDescription() != null) {
+            campaign.setDescription(item.getDescription());
+        }
+        if (item.getBudget() != null) {
+            campaign.setBudget(item.getBudget());
+        }
+        if (item.getStartDate() != null) {
+            campaign.setStartDate(item.getStartDate());
+        }
+        if (item.getEndDate() != null) {
+            campaign.setEndDate(item.getEndDate());
+        }
+        if (item.getTargetAudience() != null) {
+            campaign.setTargetAudience(item.getTargetAudience());
+        }
+        if (item.getStatus() != null) {
+            campaign.setStatus(item.getStatus());
+        }
+    }
+    
+    private static void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " campaigns can be sent in one batch");
+        }
+    }
+    
+    /**
+     * Loads campaigns by ID with one query.
+     *
+     * @param ids The IDs, possibly with nulls and duplicates
+     * @return Live campaigns by ID
+     */
+    private Map<UUID, Campaign> findAllByIds(Collection<UUID> ids) {
+        Set<UUID> distinct = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+        return campaignRepository.findAllById(distinct).stream()
+                .collect(Collectors.toMap(Campaign::getId, Function.identity()));
+    }
+    
+    /**
+     * Counts the assets of many campaigns with one query.
+     *
+     * @param campaignIds The IDs of the campaigns
+     * @return Asset count by campaign ID; campaigns without assets are omitted
+     */
+    private Map<UUID, Long> countAssets(Collection<UUID> campaignIds) {
+        if (campaignIds.isEmpty()) {
+            return Map.of();
+        }
+        return campaignAssetRepository.countByCampaignIds(campaignIds).stream()
+                .collect(Collectors.toMap(AssetCount::getCampaignId, AssetCount::getAssetCount));
+    }
+    
+    /**
+     * Checks that a batch item refers to a campaign the user owns.
+     *
+     * @return The failure result, or null if the campaign may be used
+     */
+    private static CampaignBatchResult checkBatchAccess(int index, UUID id, Campaign campaign, UUID userId) {
+        if (id == null) {
+            return CampaignBatchResult.failure(index, null, HttpStatus.BAD_REQUEST.value(), "Campaign ID is required");
+        }
+        if (campaign == null) {
+            return CampaignBatchResult.failure(index, id, HttpStatus.NOT_FOUND.value(),
+                    "Campaign not found with id: " + id);
+        }
+        if (!campaign.getUser().getId().equals(userId)) {
+            log.warn("User {} attempted to access campaign {} owned by user {} in a batch",
+                    userId, id, campaign.getUser().getId());
+            return CampaignBatchResult.failure(index, id, HttpStatus.FORBIDDEN.value(),
+                    "You don't have permission to access this campaign");
+        }
+        return null;
+    }
+    
+    /**
+     * Validates one batch item against its bean validation constraints.
+     *
+     * @return The violation messages, or null if the item is valid
+     */
+    private String validateBatchItem(Object item) {
+        if (item == null) {
+            return "Item is required";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    /**
+     * Captures the audited fields of a campaign.
+     *
+     * @param campaign The campaign entity
+     * @return Field values by name
+     */
+    private static Map<String, Object> auditSnapshot(Campaign campaign) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("name", campaign.getName());
+        snapshot.put("description", campaign.getDescription());
+        snapshot.put("budget", campaign.getBudget());
+        snapshot.put("startDate", campaign.getStartDate());
+        snapshot.put("endDate", campaign.getEndDate());
+        snapshot.put("targetAudience", campaign.getTargetAudience());
+        snapshot.put("status", campaign.getStatus());
+        return snapshot;
+    }
+    
     /**
      * Converts a Campaign entity to a CampaignResponse DTO.
      *
@@ -233,6 +638,18 @@ public class CampaignService {
      * @return CampaignResponse DTO
      */
     private CampaignResponse convertToResponse(Campaign campaign) {
+        // Calculate asset count
+        return convertToResponse(campaign, campaignAssetRepository.countByCampaignId(campaign.getId()));
+    }
+    
+    /**
+     * Converts a Campaign entity to a CampaignResponse DTO with a known asset count.
+     *
+     * @param campaign The campaign entity to convert
+     * @param assetCount Number of assets of the campaign
+     * @return CampaignResponse DTO
+     */
+    private static CampaignResponse convertToResponse(Campaign campaign, long assetCount) {
         CampaignResponse response = new CampaignResponse();
         response.setId(campaign.getId());
         response.setName(campaign.getName());
@@ -244,29 +661,26 @@ public class CampaignService {
         response.setStatus(campaign.getStatus());
         response.setCreatedAt(campaign.getCreatedAt());
         response.setUpdatedAt(campaign.getUpdatedAt());
-        
-        // Calculate asset count
-        int assetCount = campaignAssetRepository.findByCampaignId(campaign.getId()).size();
-        response.setAssetCount(assetCount);
+        response.setAssetCount((int) assetCount);
         
         return response;
     }
     
     /**
-     * Converts a Campaign entity to a CampaignSummaryResponse DTO.
+     * Converts a changed campaign to a CampaignSummaryResponse DTO.
      *
-     * @param campaign The campaign entity to convert
+     * @param change The changed campaign
      * @return CampaignSummaryResponse DTO
      */
-    private CampaignSummaryResponse convertToSummary(Campaign campaign) {
+    private static CampaignSummaryResponse convertToSummary(CampaignChange change) {
         CampaignSummaryResponse summary = new CampaignSummaryResponse();
-        summary.setId(campaign.getId());
-        summary.setName(campaign.getName());
-        summary.setStatus(campaign.getStatus());
-        summary.setBudget(campaign.getBudget());
-        summary.setStartDate(campaign.getStartDate());
-        summary.setEndDate(campaign.getEndDate());
-        summary.setCreatedAt(campaign.getCreatedAt());
+        summary.setId(change.getId());
+        summary.setName(change.getName());
+        summary.setStatus(CampaignStatus.valueOf(change.getStatus()));
+        summary.setBudget(change.getBudget());
+        summary.setStartDate(change.getStartDate());
+        summary.setEndDate(change.getEndDate());
+        summary.setCreatedAt(change.getCreatedAt());
         
         return summary;
     }
@@ -1,6 +1,7 @@
 package com.portfolio.campaignmanager.service;
 
 import com.portfolio.campaignmanager.exception.ResourceNotFoundException;
+import com.portfolio.campaignmanager.exception.ServiceUnavailableException;
 import com.portfolio.campaignmanager.exception.UnauthorizedException;
 import com.portfolio.campaignmanager.model.dto.CampaignMetricResponse;
 import com.portfolio.campaignmanager.model.dto.CampaignPerformanceResponse;
@@ -9,27 +10,64 @@ import com.portfolio.campaignmanager.model.entity.Campaign;
 import com.portfolio.campaignmanager.model.entity.CampaignMetric;
 import com.portfolio.campaignmanager.model.enums.CampaignStatus;
 import com.portfolio.campaignmanager.repository.CampaignMetricRepository;
+import com.portfolio.campaignmanager.repository.CampaignMetricRepository.DailyMetric;
 import com.portfolio.campaignmanager.repository.CampaignRepository;
-import lombok.RequiredArgsConstructor;
+import com.portfolio.campaignmanager.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for dashboard analytics and campaign performance metrics.
  * Provides aggregated data and calculations for dashboard visualization.
+ *
+ * <p>Identical concurrent calls of the summary and top-campaigns computations (several tabs,
+ * double-fired requests) are coalesced: one caller computes, the others wait up to
+ * {@code dashboard.coalescing-timeout} for its result or exception. Results are shared
+ * between callers and must not be modified. Joined calls are counted in
+ * {@code dashboard.requests.coalesced} by {@code method}.</p>
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DashboardService {
 
+    private static final long RETRY_AFTER_SECONDS = 1;
+
     private final CampaignRepository campaignRepository;
     private final CampaignMetricRepository campaignMetricRepository;
+    private final Duration coalescingTimeout;
+    private final SingleFlight<UUID, DashboardSummaryResponse> summaryFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, List<CampaignPerformanceResponse>> topCampaignFlights = new SingleFlight<>();
+
+    public DashboardService(CampaignRepository campaignRepository,
+                            CampaignMetricRepository campaignMetricRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${dashboard.coalescing-timeout:10s}") Duration coalescingTimeout) {
+        this.campaignRepository = campaignRepository;
+        this.campaignMetricRepository = campaignMetricRepository;
+        this.coalescingTimeout = coalescingTimeout;
+        coalesced(meterRegistry, "summary", summaryFlights);
+        coalesced(meterRegistry, "top-campaigns", topCampaignFlights);
+    }
+
+    private static void coalesced(MeterRegistry meterRegistry, String method, SingleFlight<?, ?> flights) {
+        FunctionCounter.builder("dashboard.requests.coalesced", flights, SingleFlight::shared)
+                .description("Dashboard calls that shared an identical computation already in flight")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
 
     /**
      * Gets dashboard summary statistics for a user.
@@ -39,6 +77,10 @@ public class DashboardService {
      * @return Dashboard summary with aggregated metrics
      */
     public DashboardSummaryResponse getDashboardSummary(UUID userId) {
+        return coalesce(summaryFlights, userId, () -> computeDashboardSummary(userId));
+    }
+
+    private DashboardSummaryResponse computeDashboardSummary(UUID userId) {
         log.debug("Calculating dashboard summary for user: {}", userId);
 
         List<Campaign> userCampaigns = campaignRepository.findByUserId(userId);
@@ -107,18 +149,21 @@ public class DashboardService {
     }
 
     /**
-     * Gets campaign metrics for a specific campaign and date range.
-     * Verifies user ownership before returning data.
+     * Streams the daily metrics of a campaign in a date range, oldest first.
+     * Verifies user ownership and the date range before the first metric is passed on.
+     * Metrics are read with a database cursor inside a read-only transaction and are not
+     * kept in the persistence context, so memory stays flat however long the range is.
      *
      * @param campaignId The campaign ID
      * @param userId The user ID making the request
-     * @param startDate Start date for metrics (inclusive)
-     * @param endDate End date for metrics (inclusive)
-     * @return List of daily metrics for the date range
+     * @param startDate Start date for metrics (inclusive), defaults to 30 days ago
+     * @param endDate End date for metrics (inclusive), defaults to today
+     * @param consumer Receives each daily metric
      */
-    public List<CampaignMetricResponse> getCampaignMetrics(UUID campaignId, UUID userId, 
-                                                         LocalDate startDate, LocalDate endDate) {
-        log.debug("Getting campaign metrics for campaign: {}, user: {}, date range: {} to {}", 
+    @Transactional(readOnly = true)
+    public void streamCampaignMetrics(UUID campaignId, UUID userId, LocalDate startDate, LocalDate endDate,
+                                      Consumer<CampaignMetricResponse> consumer) {
+        log.debug("Streaming campaign metrics for campaign: {}, user: {}, date range: {} to {}", 
                 campaignId, userId, startDate, endDate);
 
         // Verify campaign exists and user owns it
@@ -144,17 +189,12 @@ public class DashboardService {
             throw new IllegalArgumentException("End date cannot be before start date");
         }
 
-        // Get metrics for date range
-        List<CampaignMetric> metrics = campaignMetricRepository
-                .findByCampaignIdAndDateBetween(campaignId, startDate, endDate);
-
-        List<CampaignMetricResponse> response = metrics.stream()
-                .map(CampaignMetricResponse::fromEntity)
-                .sorted(Comparator.comparing(CampaignMetricResponse::getDate))
-                .collect(Collectors.toList());
-
-        log.debug("Found {} metrics for campaign {} in date range", response.size(), campaignId);
-        return response;
+        try (Stream<DailyMetric> metrics = campaignMetricRepository
+                .streamDailyMetrics(campaignId, startDate, endDate)) {
+            metrics.map(metric -> CampaignMetricResponse.of(metric.getDate(), metric.getImpressions(),
+                            metric.getClicks(), metric.getConversions()))
+                    .forEach(consumer);
+        }
     }
 
     /**
@@ -165,6 +205,12 @@ public class DashboardService {
      * @return List of top performing campaigns
      */
     public List<CampaignPerformanceResponse> getTopCampaignsByPerformance(UUID userId, int limit) {
+        int effectiveLimit = Math.max(1, limit); // Ensure minimum of 1
+        return coalesce(topCampaignFlights, List.of(userId, effectiveLimit),
+                () -> computeTopCampaignsByPerformance(userId, effectiveLimit));
+    }
+
+    private List<CampaignPerformanceResponse> computeTopCampaignsByPerformance(UUID userId, int limit) {
         log.debug("Getting top {} campaigns by performance for user: {}", limit, userId);
 
         List<Campaign> userCampaigns = campaignRepository.findByUserId(userId);
@@ -207,13 +253,26 @@ public class DashboardService {
         // Sort by total conversions (descending) and limit results
         List<CampaignPerformanceResponse> topCampaigns = campaignPerformances.stream()
                 .sorted(Comparator.comparingLong(CampaignPerformanceResponse::getTotalConversions).reversed())
-                .limit(Math.max(1, limit)) // Ensure minimum of 1
+                .limit(limit)
                 .collect(Collectors.toList());
 
         log.debug("Returning top {} campaigns for user {}", topCampaigns.size(), userId);
         return topCampaigns;
     }
 
+    /**
+     * Runs the computation unless an identical one is in flight, in which case its result
+     * is shared. Callers that wait longer than the coalescing timeout get a 503.
+     */
+    private <K, V> V coalesce(SingleFlight<K, V> flights, K key, Supplier<V> computation) {
+        try {
+            return flights.execute(key, computation, coalescingTimeout);
+        } catch (SingleFlight.WaitTimeoutException e) {
+            log.warn("Gave up waiting for dashboard computation {}: {}", key, e.getMessage());
+            throw new ServiceUnavailableException("Dashboard is busy, please retry shortly", RETRY_AFTER_SECONDS);
+        }
+    }
+
     /**
      * Creates an empty dashboard summary for users with no campaigns.
      */
@@ -0,0 +1,270 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.derivative.DerivativeProperties;
+import com.portfolio.campaignmanager.derivative.ImageResizer;
+import com.portfolio.campaignmanager.derivative.ResizedImage;
+import com.portfolio.campaignmanager.model.entity.AssetDerivative;
+import com.portfolio.campaignmanager.model.entity.CampaignAsset;
+import com.portfolio.campaignmanager.model.entity.DerivativeJob;
+import com.portfolio.campaignmanager.model.enums.DerivativeJobStatus;
+import com.portfolio.campaignmanager.model.enums.DerivativeKind;
+import com.portfolio.campaignmanager.repository.AssetDerivativeRepository;
+import com.portfolio.campaignmanager.repository.CampaignAssetRepository;
+import com.portfolio.campaignmanager.repository.DerivativeJobRepository;
+import com.portfolio.campaignmanager.storage.AssetCache;
+import com.portfolio.campaignmanager.storage.AssetStorage;
+import com.portfolio.campaignmanager.storage.StoredObject;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service class for generating thumbnails and web previews of image assets in the background.
+ *
+ * <p>Uploads enqueue a row in {@code derivative_jobs}, so pending work survives restarts.
+ * A scheduled dispatcher claims due jobs, only as many as the bounded worker pool can take,
+ * and the workers render the derivatives from the locally cached original. Derivatives are
+ * stored next to the asset's blob, so an asset whose content was already processed just
+ * links the existing derivatives. Failed jobs are retried with exponential backoff until
+ * {@code derivatives.max-attempts} is reached.</p>
+ *
+ * <p>Metrics: the gauge {@code assets.derivatives.queue.depth} (pending jobs, refreshed on
+ * every dispatch) and the timer {@code assets.derivatives.processing} (tag {@code result}:
+ * {@code success} or {@code failure}).</p>
+ */
+@Service
+@Slf4j
+public class DerivativeService {
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    private final DerivativeJobRepository derivativeJobRepository;
+    private final AssetDerivativeRepository assetDerivativeRepository;
+    private final CampaignAssetRepository campaignAssetRepository;
+    private final AssetCache assetCache;
+    private final AssetStorage assetStorage;
+    private final ImageResizer imageResizer;
+    private final DerivativeProperties properties;
+    private final ThreadPoolExecutor workers;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer succeeded;
+    private final Timer failed;
+    
+    public DerivativeService(DerivativeJobRepository derivativeJobRepository,
+                             AssetDerivativeRepository assetDerivativeRepository,
+                             CampaignAssetRepository campaignAssetRepository,
+                             AssetCache assetCache,
+                             AssetStorage assetStorage,
+                             ImageResizer imageResizer,
+                             DerivativeProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.derivativeJobRepository = derivativeJobRepository;
+        this.assetDerivativeRepository = assetDerivativeRepository;
+        this.campaignAssetRepository = campaignAssetRepository;
+        this.assetCache = assetCache;
+        this.assetStorage = assetStorage;
+        this.imageResizer = imageResizer;
+        this.properties = properties;
+        this.workers = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getWorkers()),
+                new CustomizableThreadFactory("derivative-"));
+        Gauge.builder("assets.derivatives.queue.depth", queueDepth, AtomicLong::get)
+                .description("Derivative jobs waiting to be processed")
+                .register(meterRegistry);
+        this.succeeded = processing(meterRegistry, "success");
+        this.failed = processing(meterRegistry, "failure");
+    }
+    
+    private static Timer processing(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("assets.derivatives.processing")
+                .description("Time to generate the derivatives of an asset")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Enqueues derivative generation for an uploaded asset if it is an image ImageIO can decode.
+     *
+     * @param asset The stored asset
+     */
+    public void enqueue(CampaignAsset asset) {
+        if (!properties.isEnabled() || asset.getBlobSha256() == null || !isSupportedImage(asset.getFileType())) {
+            return;
+        }
+        
+        DerivativeJob job = new DerivativeJob();
+        job.setAsset(asset);
+        job.setStatus(DerivativeJobStatus.PENDING);
+        job.setAvailableAt(LocalDateTime.now());
+        derivativeJobRepository.save(job);
+        log.debug("Enqueued derivative generation for asset {}", asset.getId());
+    }
+    
+    /**
+     * Claims due jobs up to the free capacity of the worker pool and hands them to the workers.
+     */
+    @Scheduled(fixedDelayString = "${derivatives.poll-interval:PT5S}")
+    public void dispatch() {
+        queueDepth.set(derivativeJobRepository.countByStatus(DerivativeJobStatus.PENDING));
+        
+        int capacity = workers.getQueue().remainingCapacity()
+                + workers.getMaximumPoolSize() - workers.getActiveCount();
+        if (capacity <= 0 || workers.isShutdown()) {
+            return;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<DerivativeJob> jobs = derivativeJobRepository.claim(now, now.plus(properties.getLease()), capacity);
+        for (DerivativeJob job : jobs) {
+            try {
+                workers.execute(() -> process(job));
+            } catch (RejectedExecutionException e) {
+                derivativeJobRepository.reschedule(job.getId(), now, job.getLastError());
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Jobs still queued keep their lease and are claimed again once it expires
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+    
+    private void process(DerivativeJob job) {
+        UUID assetId = job.getAsset().getId();
+        if (job.getAttempts() > properties.getMaxAttempts()) {
+            derivativeJobRepository.markFailed(job.getId(), "Lease expired on the last attempt");
+            return;
+        }
+        
+        long start = System.nanoTime();
+        try {
+            generate(assetId);
+            derivativeJobRepository.deleteById(job.getId());
+            succeeded.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            fail(job, e);
+        }
+    }
+    
+    private void generate(UUID assetId) {
+        CampaignAsset asset = campaignAssetRepository.findById(assetId).orElse(null);
+        if (asset == null || assetDerivativeRepository.existsByAssetId(assetId)) {
+            return;
+        }
+        
+        String sha256 = asset.getBlobSha256();
+        Map<DerivativeKind, AssetDerivative> shared = new EnumMap<>(DerivativeKind.class);
+        for (AssetDerivative derivative : assetDerivativeRepository.findByAssetBlobSha256(sha256)) {
+            shared.putIfAbsent(derivative.getKind(), derivative);
+        }
+        
+        List<AssetDerivative> derivatives = new ArrayList<>();
+        if (!shared.isEmpty()) {
+            shared.values().forEach(existing -> derivatives.add(link(asset, existing)));
+            log.debug("Linked {} existing derivatives to asset {}", derivatives.size(), assetId);
+        } else {
+            for (ResizedImage image : render(sha256)) {
+                derivatives.add(store(asset, image));
+            }
+            log.debug("Generated {} derivatives for asset {}", derivatives.size(), assetId);
+        }
+        
+        assetDerivativeRepository.saveAll(derivatives);
+    }
+    
+    private List<ResizedImage> render(String sha256) {
+        Map<DerivativeKind, Integer> sizes = new EnumMap<>(DerivativeKind.class);
+        sizes.put(DerivativeKind.THUMBNAIL, properties.getThumbnailSize());
+        sizes.put(DerivativeKind.PREVIEW, properties.getPreviewSize());
+        
+        try (AssetCache.Lease original = assetCache.acquire(AssetBlobService.blobKey(sha256))) {
+            return imageResizer.resize(original.path(), sizes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render derivatives of blob " + sha256, e);
+        }
+    }
+    
+    private AssetDerivative store(CampaignAsset asset, ResizedImage image) {
+        String key = AssetBlobService.derivativeKey(asset.getBlobSha256(), image.getKind());
+        StoredObject stored = assetStorage.store(key, new ByteArrayInputStream(image.getContent()),
+                image.getContentType());
+        
+        return AssetDerivative.builder()
+                .asset(asset)
+                .kind(image.getKind())
+                .storageKey(key)
+                .url(stored.getUrl())
+                .contentType(image.getContentType())
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .fileSize(stored.getSize())
+                .build();
+    }
+    
+    private static AssetDerivative link(CampaignAsset asset, AssetDerivative existing) {
+        return AssetDerivative.builder()
+                .asset(asset)
+                .kind(existing.getKind())
+                .storageKey(existing.getStorageKey())
+                .url(existing.getUrl())
+                .contentType(existing.getContentType())
+                .width(existing.getWidth())
+                .height(existing.getHeight())
+                .fileSize(existing.getFileSize())
+                .build();
+    }
+    
+    private void fail(DerivativeJob job, RuntimeException e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        
+        if (job.getAttempts() >= properties.getMaxAttempts()) {
+            log.warn("Derivative job {} for asset {} failed permanently after {} attempts: {}",
+                    job.getId(), job.getAsset().getId(), job.getAttempts(), error);
+            derivativeJobRepository.markFailed(job.getId(), error);
+            return;
+        }
+        
+        long backoffMillis = properties.getRetryBackoff().toMillis() << Math.min(job.getAttempts() - 1, 16);
+        log.info("Derivative job {} for asset {} failed (attempt {}), retrying in {} ms: {}",
+                job.getId(), job.getAsset().getId(), job.getAttempts(), backoffMillis, error);
+        derivativeJobRepository.reschedule(job.getId(), LocalDateTime.now().plus(Duration.ofMillis(backoffMillis)), error);
+    }
+    
+    private static boolean isSupportedImage(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String mimeType = contentType.split(";", 2)[0].trim().toLowerCase();
+        return mimeType.startsWith("image/") && ImageIO.getImageReadersByMIMEType(mimeType).hasNext();
+    }
+}
@@ -0,0 +1,351 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.exception.AssetStorageException;
+import com.portfolio.campaignmanager.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Size-bounded local disk cache of stored assets, evicting the least recently used files.
+ *
+ * <p>A cache miss downloads the object from {@link AssetStorage} once, even when many requests
+ * ask for the same cold object at the same time. Files in use are pinned by a {@link Lease}
+ * and are never evicted while pinned or within {@code storage.cache-min-residency} of
+ * being served. A file replaced by a newer copy of the same object is deleted once it is no
+ * longer pinned or recently served. Existing files are re-indexed on startup, oldest first.</p>
+ *
+ * <p>Metrics: {@code assets.cache.requests} (tag {@code result}: {@code hit} or {@code miss})
+ * and the gauge {@code assets.cache.size}.</p>
+ */
+@Component
+@Slf4j
+public class AssetCache {
+
+    private static final String TEMP_PREFIX = ".fetch-";
+    private static final String ENCODED_PREFIX = "k-";
+    private static final String HASHED_PREFIX = "h-";
+    private static final String VERSION_SEPARATOR = "~";
+    private static final int MAX_ENCODED_NAME_LENGTH = 200;
+
+    private final AssetStorage assetStorage;
+    private final Path directory;
+    private final long maxSize;
+    private final long minResidencyNanos;
+    private final SingleFlight<String, Entry> fetches = new SingleFlight<>();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<Entry> replaced = new ArrayList<>();
+    private final Counter hits;
+    private final Counter misses;
+    private long size;
+
+    public AssetCache(AssetStorage assetStorage, StorageProperties properties, MeterRegistry meterRegistry) {
+        this.assetStorage = assetStorage;
+        this.directory = Path.of(properties.getCacheDirectory()).toAbsolutePath().normalize();
+        this.maxSize = properties.getCacheMaxSize().toBytes();
+        this.minResidencyNanos = properties.getCacheMinResidency().toNanos();
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("assets.cache.size", this, AssetCache::size)
+                .description("Bytes held by the local asset cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        loadExisting();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("assets.cache.requests")
+                .description("Asset cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a pinned cached copy of the object, downloading it first on a miss.
+     * The lease must be closed once the file has been served.
+     *
+     * @param key Storage key of the object
+     * @return Lease on the cached file
+     */
+    public Lease acquire(String key) {
+        Lease lease = pin(key);
+        if (lease != null) {
+            hits.increment();
+            return lease;
+        }
+
+        misses.increment();
+        while (true) {
+            fetches.execute(key, () -> fetch(key));
+            lease = pin(key);
+            if (lease != null) {
+                return lease;
+            }
+            // Evicted between the fetch and pinning, which only happens under extreme cache pressure
+        }
+    }
+
+    /**
+     * Bytes currently held by the cache.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    private synchronized Lease pin(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.pins++;
+        entry.lastServed = System.nanoTime();
+        return new Lease(this, entry);
+    }
+
+    private void unpin(Entry entry) {
+        List<Path> released;
+        synchronized (this) {
+            entry.pins--;
+            entry.lastServed = System.nanoTime();
+            if (!entry.replaced || entry.pins > 0) {
+                return;
+            }
+            released = releaseReplaced();
+        }
+        released.forEach(AssetCache::deleteQuietly);
+    }
+
+    /**
+     * Deletes replaced files whose last lease was closed within the minimum residency, which
+     * {@link #unpin} could not delete yet.
+     */
+    @Scheduled(fixedDelayString = "${storage.cache-min-residency:PT1M}")
+    public void deleteReplaced() {
+        List<Path> released;
+        synchronized (this) {
+            released = releaseReplaced();
+        }
+        released.forEach(AssetCache::deleteQuietly);
+    }
+
+    private Entry fetch(String key) {
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Path target = directory.resolve(fileName(key));
+        Path temp = directory.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            Files.createDirectories(directory);
+            assetStorage.download(key, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            Entry entry = new Entry(key, target, Files.size(target));
+            add(entry);
+            log.debug("Cached {} ({} bytes)", key, entry.size);
+            return entry;
+        } catch (IOException e) {
+            throw new AssetStorageException("Failed to cache asset " + key, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private void add(Entry entry) {
+        List<Path> evicted;
+        synchronized (this) {
+            Entry previous = entries.put(entry.key, entry);
+            if (previous != null) {
+                // Its file may still be served; it keeps counting towards the size until deleted
+                previous.replaced = true;
+                replaced.add(previous);
+            }
+            size += entry.size;
+            evicted = evict();
+        }
+        evicted.forEach(AssetCache::deleteQuietly);
+    }
+
+    /**
+     * Removes least recently used entries until the cache fits, skipping entries that are
+     * pinned or were served recently. Must be called while holding the cache lock; the
+     * returned files are deleted after the lock is released.
+     */
+    private List<Path> evict() {
+        List<Path> evicted = releaseReplaced();
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Entry candidate = iterator.next().getValue();
+            if (!isReleasable(candidate, now)) {
+                continue;
+            }
+            iterator.remove();
+            size -= candidate.size;
+            evicted.add(candidate.path);
+        }
+        return evicted;
+    }
+
+    /**
+     * Forgets replaced entries that are neither pinned nor recently served. Must be called
+     * while holding the cache lock; the returned files are deleted after it is released.
+     */
+    private List<Path> releaseReplaced() {
+        List<Path> released = new ArrayList<>();
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = replaced.iterator();
+        while (iterator.hasNext()) {
+            Entry candidate = iterator.next();
+            if (isReleasable(candidate, now)) {
+                iterator.remove();
+                size -= candidate.size;
+                released.add(candidate.path);
+            }
+        }
+        return released;
+    }
+
+    private boolean isReleasable(Entry entry, long now) {
+        return entry.pins == 0 && now - entry.lastServed >= minResidencyNanos;
+    }
+
+    private void loadExisting() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparing(AssetCache::lastModified))
+                    .forEach(file -> {
+                        String name = file.getFileName().toString();
+                        if (!name.startsWith(ENCODED_PREFIX)) {
+                            // Interrupted downloads, and files named by key hash whose key cannot be recovered
+                            deleteQuietly(file);
+                            return;
+                        }
+                        try {
+                            int separator = name.lastIndexOf(VERSION_SEPARATOR);
+                            String encoded = name.substring(ENCODED_PREFIX.length(),
+                                    separator > 0 ? separator : name.length());
+                            String key = URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+                            Entry entry = new Entry(key, file, Files.size(file));
+                            entry.lastServed = System.nanoTime() - minResidencyNanos;
+                            add(entry);
+                        } catch (IOException e) {
+                            log.warn("Skipping unreadable cache file {}: {}", file, e.getMessage());
+                        }
+                    });
+            log.info("Asset cache loaded: {} files, {} bytes", entries.size(), size());
+        } catch (IOException e) {
+            log.warn("Failed to load asset cache from {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Names the cache file after the URL-encoded key, or after the key's SHA-256 when the
+     * encoded key is too long for a file name. Every fetch gets a distinct name, so deleting
+     * an evicted file can never remove a newer copy of the same object.
+     */
+    private static String fileName(String key) {
+        String version = VERSION_SEPARATOR + UUID.randomUUID();
+        String encoded = URLEncoder.encode(key, StandardCharsets.UTF_8);
+        if (encoded.length() <= MAX_ENCODED_NAME_LENGTH) {
+            return ENCODED_PREFIX + encoded + version;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HASHED_PREFIX + HexFormat.of().formatHex(hash) + version;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cache file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final Path path;
+        private final long size;
+        private int pins;
+        private long lastServed = System.nanoTime();
+        private boolean replaced;
+
+        private Entry(String key, Path path, long size) {
+            this.key = key;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    /**
+     * A pinned cached file. The file is not evicted until the lease is closed.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final AssetCache cache;
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(AssetCache cache, Entry entry) {
+            this.cache = cache;
+            this.entry = entry;
+        }
+
+        public Path path() {
+            return entry.path;
+        }
+
+        public long size() {
+            return entry.size;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                cache.unpin(entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.portfolio.campaignmanager.storage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Object storage for campaign assets.
+ *
+ * <p>Implementations stream content in fixed-size chunks, so memory use per upload is
+ * bounded by the chunk size regardless of the object size. The implementation is chosen
+ * with {@code storage.type}: {@code s3} for S3 or an S3-compatible endpoint,
+ * {@code filesystem} (the default) for a local directory.</p>
+ */
+public interface AssetStorage {
+
+    /**
+     * Streams content to storage under the given key, computing its size and SHA-256.
+     * The input stream is read to the end but not closed.
+     *
+     * @param key Storage key to write
+     * @param content Content to store
+     * @param contentType MIME type of the content
+     * @return The stored object's size, checksum and URL
+     * @throws com.portfolio.campaignmanager.exception.AssetTooLargeException if the content exceeds the size limit
+     * @throws com.portfolio.campaignmanager.exception.AssetStorageException if the content cannot be stored
+     */
+    StoredObject store(String key, InputStream content, String contentType);
+
+    /**
+     * Downloads the object with the given key to a local file that must not exist yet.
+     *
+     * @param key Storage key to read
+     * @param target File to create with the object's content
+     * @throws com.portfolio.campaignmanager.exception.AssetStorageException if the object cannot be read
+     */
+    void download(String key, Path target);
+
+    /**
+     * Moves an object to a new key, replacing any object already stored there.
+     *
+     * @param sourceKey Storage key of the existing object
+     * @param targetKey Storage key to move it to
+     */
+    void move(String sourceKey, String targetKey);
+
+    /**
+     * Returns the URL of the object with the given key.
+     *
+     * @param key Storage key
+     * @return URL of the object
+     */
+    String url(String key);
+
+    /**
+     * Deletes the object with the given key. Deleting a missing object is not an error.
+     *
+     * @param key Storage key to delete
+     */
+    void delete(String key);
+}
@@ -0,0 +1,61 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.exception.AssetTooLargeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Reads an input stream chunk by chunk while tracking its size and SHA-256,
+ * failing as soon as the content grows beyond the size limit.
+ */
+class ChunkReader {
+
+    private final InputStream in;
+    private final long maxSize;
+    private final MessageDigest digest;
+    private long size;
+
+    ChunkReader(InputStream in, long maxSize) {
+        this.in = in;
+        this.maxSize = maxSize;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Fills the buffer from the stream.
+     *
+     * @return Number of bytes read; less than the buffer length only at the end of the stream
+     */
+    int fill(byte[] buffer) throws IOException {
+        int filled = 0;
+        while (filled < buffer.length) {
+            int read = in.read(buffer, filled, buffer.length - filled);
+            if (read < 0) {
+                break;
+            }
+            filled += read;
+        }
+        size += filled;
+        if (size > maxSize) {
+            throw new AssetTooLargeException("Asset exceeds the maximum size of " + maxSize + " bytes");
+        }
+        digest.update(buffer, 0, filled);
+        return filled;
+    }
+
+    long size() {
+        return size;
+    }
+
+    String sha256() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,114 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.exception.AssetStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores assets as files below {@code storage.filesystem-root}, for local development and tests.
+ * Content is written to a temporary file in chunks and moved into place once complete.
+ */
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "filesystem", matchIfMissing = true)
+@Slf4j
+public class FileSystemAssetStorage implements AssetStorage {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final StorageProperties properties;
+    private final Path root;
+
+    public FileSystemAssetStorage(StorageProperties properties) {
+        this.properties = properties;
+        this.root = Path.of(properties.getFilesystemRoot()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public StoredObject store(String key, InputStream content, String contentType) {
+        Path target = resolve(key);
+        ChunkReader reader = new ChunkReader(content, properties.getMaxAssetSize().toBytes());
+        Path temp = null;
+
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            byte[] buffer = new byte[CHUNK_SIZE];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int length;
+                while ((length = reader.fill(buffer)) > 0) {
+                    out.write(buffer, 0, length);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new AssetStorageException("Failed to store asset " + key, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+
+        return new StoredObject(key, reader.size(), reader.sha256(), url(key));
+    }
+
+    @Override
+    public void download(String key, Path target) {
+        try {
+            Files.copy(resolve(key), target);
+        } catch (IOException e) {
+            throw new AssetStorageException("Failed to download asset " + key, e);
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        Path target = resolve(targetKey);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(resolve(sourceKey), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new AssetStorageException("Failed to move asset " + sourceKey + " to " + targetKey, e);
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return resolve(key).toUri().toString();
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new AssetStorageException("Failed to delete asset " + key, e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new AssetStorageException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary upload {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.exception.AssetStorageException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed pool of part-sized buffers shared by all S3 uploads.
+ *
+ * <p>The pool is the global concurrency limit for part uploads: a request thread must take a
+ * buffer before reading the next part from its request body, so when every buffer is in
+ * flight, uploads stop reading from their clients until a part finishes. Buffers are
+ * allocated on first use.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3")
+public class PartBufferPool {
+
+    private final BlockingQueue<byte[]> available;
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final int capacity;
+    private final int bufferSize;
+    private final long waitTimeoutMillis;
+
+    public PartBufferPool(StorageProperties properties) {
+        this.capacity = properties.getUploadConcurrency();
+        this.bufferSize = (int) properties.getPartSize().toBytes();
+        this.waitTimeoutMillis = properties.getBufferWaitTimeout().toMillis();
+        this.available = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Takes a buffer, waiting up to {@code storage.buffer-wait-timeout} for one to be released.
+     *
+     * @throws AssetStorageException if no buffer becomes available in time
+     */
+    public byte[] acquire() {
+        byte[] buffer = available.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        if (allocated.getAndIncrement() < capacity) {
+            return new byte[bufferSize];
+        }
+        allocated.decrementAndGet();
+
+        try {
+            buffer = available.poll(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssetStorageException("Interrupted while waiting for an upload buffer", e);
+        }
+        if (buffer == null) {
+            throw new AssetStorageException("Upload capacity exhausted; no part buffer available");
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer taken with {@link #acquire()}.
+     */
+    public void release(byte[] buffer) {
+        available.offer(buffer);
+    }
+
+    /**
+     * Number of buffers currently taken.
+     */
+    public int inUse() {
+        return allocated.get() - available.size();
+    }
+}
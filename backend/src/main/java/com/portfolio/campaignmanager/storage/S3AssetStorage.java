@@ -0,0 +1,247 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.config.AwsProperties;
+import com.portfolio.campaignmanager.exception.AssetStorageException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores assets in S3 or an S3-compatible store through the async CRT client.
+ *
+ * <p>Objects that fit into one part are written with a plain PUT. Larger objects use a
+ * multipart upload: the request thread reads the body one part at a time into a buffer from
+ * the shared {@link PartBufferPool} and hands it to the async client, so several parts are
+ * uploaded concurrently while the next one is read. Reading pauses when the upload already
+ * has {@code storage.parts-in-flight-per-upload} parts in flight or the pool is empty,
+ * which applies back-pressure to the client. Failed parts are retried individually; if a
+ * part still fails, or reading the body fails, the multipart upload is aborted.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3")
+@RequiredArgsConstructor
+@Slf4j
+public class S3AssetStorage implements AssetStorage {
+
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Utilities s3Utilities;
+    private final PartBufferPool bufferPool;
+    private final AwsProperties awsProperties;
+    private final StorageProperties storageProperties;
+
+    @Override
+    public StoredObject store(String key, InputStream content, String contentType) {
+        String bucket = awsProperties.getS3().getBucketName();
+        ChunkReader reader = new ChunkReader(content, storageProperties.getMaxAssetSize().toBytes());
+
+        byte[] buffer = bufferPool.acquire();
+        try {
+            int length = reader.fill(buffer);
+            if (length < buffer.length) {
+                s3AsyncClient.putObject(request -> request.bucket(bucket).key(key).contentType(contentType),
+                        body(buffer, length)).join();
+            } else {
+                byte[] first = buffer;
+                buffer = null;
+                uploadMultipart(bucket, key, contentType, reader, first, length);
+            }
+        } catch (IOException | CompletionException e) {
+            throw new AssetStorageException("Failed to store asset " + key, unwrap(e));
+        } finally {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+        }
+
+        return new StoredObject(key, reader.size(), reader.sha256(), url(key));
+    }
+
+    @Override
+    public void download(String key, Path target) {
+        try {
+            s3AsyncClient.getObject(request -> request.bucket(awsProperties.getS3().getBucketName()).key(key),
+                    AsyncResponseTransformer.toFile(target)).join();
+        } catch (CompletionException e) {
+            throw new AssetStorageException("Failed to download asset " + key, unwrap(e));
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        String bucket = awsProperties.getS3().getBucketName();
+        try {
+            s3AsyncClient.copyObject(request -> request
+                    .sourceBucket(bucket).sourceKey(sourceKey)
+                    .destinationBucket(bucket).destinationKey(targetKey)).join();
+        } catch (CompletionException e) {
+            throw new AssetStorageException("Failed to move asset " + sourceKey + " to " + targetKey, unwrap(e));
+        }
+        delete(sourceKey);
+    }
+
+    @Override
+    public String url(String key) {
+        return s3Utilities.getUrl(GetUrlRequest.builder()
+                .bucket(awsProperties.getS3().getBucketName())
+                .key(key)
+                .build()).toExternalForm();
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3AsyncClient.deleteObject(request -> request.bucket(awsProperties.getS3().getBucketName()).key(key)).join();
+        } catch (CompletionException e) {
+            throw new AssetStorageException("Failed to delete asset " + key, unwrap(e));
+        }
+    }
+
+    /**
+     * Uploads the remaining body as parts. Takes ownership of {@code firstBuffer}.
+     */
+    private void uploadMultipart(String bucket, String key, String contentType,
+                                 ChunkReader reader, byte[] firstBuffer, int firstLength) throws IOException {
+        String uploadId;
+        try {
+            uploadId = s3AsyncClient.createMultipartUpload(request -> request
+                    .bucket(bucket).key(key).contentType(contentType)).join().uploadId();
+        } catch (CompletionException e) {
+            bufferPool.release(firstBuffer);
+            throw e;
+        }
+
+        Semaphore inFlight = new Semaphore(storageProperties.getPartsInFlightPerUpload());
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        byte[] buffer = firstBuffer;
+        int length = firstLength;
+
+        try {
+            while (length > 0) {
+                acquire(inFlight);
+                parts.add(uploadPart(bucket, key, uploadId, parts.size() + 1, buffer, length, inFlight));
+                buffer = null;
+                failFast(parts);
+
+                buffer = bufferPool.acquire();
+                length = reader.fill(buffer);
+            }
+            bufferPool.release(buffer);
+            buffer = null;
+
+            List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+            s3AsyncClient.completeMultipartUpload(request -> request
+                    .bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts))).join();
+            log.debug("Uploaded {} in {} parts ({} bytes)", key, completedParts.size(), reader.size());
+        } catch (IOException | RuntimeException e) {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+            abort(bucket, key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    /**
+     * Uploads one part, retrying failures with a linear backoff. The buffer and the in-flight
+     * permit are released once the part has finally succeeded or failed.
+     */
+    private CompletableFuture<CompletedPart> uploadPart(String bucket, String key, String uploadId,
+                                                        int partNumber, byte[] buffer, int length,
+                                                        Semaphore inFlight) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket).key(key).uploadId(uploadId)
+                .partNumber(partNumber).contentLength((long) length)
+                .build();
+
+        return attemptPart(request, buffer, length, 1)
+                .whenComplete((part, error) -> {
+                    bufferPool.release(buffer);
+                    inFlight.release();
+                });
+    }
+
+    private CompletableFuture<CompletedPart> attemptPart(UploadPartRequest request, byte[] buffer, int length,
+                                                         int attempt) {
+        return s3AsyncClient.uploadPart(request, body(buffer, length))
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(request.partNumber())
+                        .eTag(response.eTag())
+                        .build())
+                .exceptionallyCompose(error -> {
+                    if (attempt > storageProperties.getPartRetries()) {
+                        return CompletableFuture.failedFuture(unwrap(error));
+                    }
+                    log.warn("Part {} of {} failed (attempt {}), retrying: {}",
+                            request.partNumber(), request.key(), attempt, unwrap(error).getMessage());
+                    return CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(RETRY_BACKOFF_MILLIS * attempt, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attemptPart(request, buffer, length, attempt + 1));
+                });
+    }
+
+    /**
+     * Aborts the multipart upload once all in-flight parts have settled, so no part
+     * completes after the abort and leaves orphaned storage behind.
+     */
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                    .handle((ignored, error) -> null)
+                    .join();
+            s3AsyncClient.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId)).join();
+        } catch (CompletionException e) {
+            log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, unwrap(e).getMessage());
+        }
+    }
+
+    private static void failFast(List<CompletableFuture<CompletedPart>> parts) {
+        for (CompletableFuture<CompletedPart> part : parts) {
+            if (part.isCompletedExceptionally()) {
+                part.join();
+            }
+        }
+    }
+
+    private static void acquire(Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssetStorageException("Interrupted while uploading", e);
+        }
+    }
+
+    private static AsyncRequestBody body(byte[] buffer, int length) {
+        return AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, length));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
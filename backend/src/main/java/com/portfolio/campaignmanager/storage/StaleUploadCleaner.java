@@ -0,0 +1,117 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.config.AwsProperties;
+import com.portfolio.campaignmanager.jobs.LeasedJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Aborts incomplete multipart uploads and deletes staged uploads left behind by crashed or
+ * killed instances, which S3 would otherwise keep (and bill) indefinitely. Uploads that fail
+ * while the application is running are cleaned up by {@link S3AssetStorage} and
+ * {@code AssetBlobService} themselves. Runs on one instance at a time.
+ */
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3")
+@RequiredArgsConstructor
+@Slf4j
+public class StaleUploadCleaner {
+
+    private static final String JOB_NAME = "stale-upload-cleanup";
+    private static final String KEY_PREFIX = "staging/";
+
+    private final S3AsyncClient s3AsyncClient;
+    private final AwsProperties awsProperties;
+    private final StorageProperties storageProperties;
+    private final LeasedJobRunner jobRunner;
+
+    @Scheduled(fixedDelayString = "${storage.stale-upload-cleanup-interval:PT1H}",
+            initialDelayString = "${storage.stale-upload-cleanup-interval:PT1H}")
+    public void abortStaleUploads() {
+        jobRunner.run(JOB_NAME, storageProperties.getStaleUploadCleanupInterval(), shard -> cleanUp());
+    }
+
+    private void cleanUp() {
+        String bucket = awsProperties.getS3().getBucketName();
+        Instant cutoff = Instant.now().minus(storageProperties.getStaleUploadAge());
+        int aborted = 0;
+
+        try {
+            String keyMarker = null;
+            String uploadIdMarker = null;
+            ListMultipartUploadsResponse page;
+            do {
+                String currentKeyMarker = keyMarker;
+                String currentUploadIdMarker = uploadIdMarker;
+                page = s3AsyncClient.listMultipartUploads(request -> request
+                        .bucket(bucket)
+                        .prefix(KEY_PREFIX)
+                        .keyMarker(currentKeyMarker)
+                        .uploadIdMarker(currentUploadIdMarker)).join();
+
+                for (MultipartUpload upload : page.uploads()) {
+                    if (upload.initiated().isBefore(cutoff)) {
+                        s3AsyncClient.abortMultipartUpload(request -> request
+                                .bucket(bucket).key(upload.key()).uploadId(upload.uploadId())).join();
+                        aborted++;
+                    }
+                }
+
+                keyMarker = page.nextKeyMarker();
+                uploadIdMarker = page.nextUploadIdMarker();
+            } while (Boolean.TRUE.equals(page.isTruncated()));
+        } catch (CompletionException e) {
+            log.warn("Stale multipart upload cleanup failed after {} aborts: {}", aborted, e.getMessage());
+            return;
+        }
+
+        if (aborted > 0) {
+            log.info("Aborted {} multipart uploads initiated before {}", aborted, cutoff);
+        }
+
+        deleteStaleStagedObjects(bucket, cutoff);
+    }
+
+    private void deleteStaleStagedObjects(String bucket, Instant cutoff) {
+        int deleted = 0;
+
+        try {
+            String continuationToken = null;
+            ListObjectsV2Response page;
+            do {
+                String currentToken = continuationToken;
+                page = s3AsyncClient.listObjectsV2(request -> request
+                        .bucket(bucket)
+                        .prefix(KEY_PREFIX)
+                        .continuationToken(currentToken)).join();
+
+                for (S3Object object : page.contents()) {
+                    if (object.lastModified().isBefore(cutoff)) {
+                        s3AsyncClient.deleteObject(request -> request.bucket(bucket).key(object.key())).join();
+                        deleted++;
+                    }
+                }
+
+                continuationToken = page.nextContinuationToken();
+            } while (Boolean.TRUE.equals(page.isTruncated()));
+        } catch (CompletionException e) {
+            log.warn("Stale staged object cleanup failed after {} deletes: {}", deleted, e.getMessage());
+            return;
+        }
+
+        if (deleted > 0) {
+            log.info("Deleted {} staged uploads last modified before {}", deleted, cutoff);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.portfolio.campaignmanager.storage;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Asset storage settings, bound from {@code storage.*}. S3 connection settings live under {@code aws.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "storage")
+public class StorageProperties {
+
+    /**
+     * Storage backend: {@code s3} or {@code filesystem}.
+     */
+    private String type = "filesystem";
+
+    /**
+     * Chunk size streamed per request; also the S3 multipart part size (minimum 5MB).
+     */
+    private DataSize partSize = DataSize.ofMegabytes(8);
+
+    /**
+     * Largest accepted asset.
+     */
+    private DataSize maxAssetSize = DataSize.ofGigabytes(5);
+
+    /**
+     * Root directory of the filesystem backend.
+     */
+    private String filesystemRoot = "storage/assets";
+
+    /**
+     * Directory of the local download cache.
+     */
+    private String cacheDirectory = "storage/cache";
+
+    /**
+     * Total size of the local download cache; least recently used files are evicted beyond it.
+     */
+    private DataSize cacheMaxSize = DataSize.ofGigabytes(10);
+
+    /**
+     * Minimum time a file stays cached after it was last served. Sendfile transfers read the
+     * file after the request thread has returned, so recently served files are not evicted.
+     */
+    private Duration cacheMinResidency = Duration.ofMinutes(1);
+
+    /**
+     * Parts uploaded concurrently across all S3 uploads. Bounds part buffer memory to
+     * {@code upload-concurrency x part-size}.
+     */
+    private int uploadConcurrency = 16;
+
+    /**
+     * Parts of a single upload in flight at once, so one large upload cannot take every slot.
+     */
+    private int partsInFlightPerUpload = 4;
+
+    /**
+     * Retries per failed part before the whole upload is aborted.
+     */
+    private int partRetries = 3;
+
+    /**
+     * How long an upload waits for a free part buffer before failing.
+     */
+    private Duration bufferWaitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Incomplete S3 multipart uploads older than this are aborted by the cleanup job.
+     */
+    private Duration staleUploadAge = Duration.ofHours(24);
+
+    /**
+     * Time between runs of the stale upload cleanup across all instances.
+     */
+    private Duration staleUploadCleanupInterval = Duration.ofHours(1);
+
+    /**
+     * How long an upload may take to move new content to its content key. A concurrent upload
+     * of the same content takes over once it has passed.
+     */
+    private Duration blobPendingTimeout = Duration.ofMinutes(15);
+
+    /**
+     * How often an upload of content that is still being stored checks whether it is done.
+     */
+    private Duration blobPendingPollInterval = Duration.ofMillis(500);
+
+    /**
+     * How long an unreferenced blob is kept before its content is deleted, so an upload of the
+     * same content shortly after the last delete can still reuse it.
+     */
+    private Duration blobGcGrace = Duration.ofHours(1);
+
+    /**
+     * Orphaned blobs deleted per garbage collection transaction.
+     */
+    private int blobGcBatchSize = 100;
+
+    /**
+     * Time between garbage collections across all instances.
+     */
+    private Duration blobGcInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,32 @@
+package com.portfolio.campaignmanager.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Result of streaming an object into {@link AssetStorage}.
+ */
+@Data
+@AllArgsConstructor
+public class StoredObject {
+
+    /**
+     * Storage key the object was written to.
+     */
+    private String key;
+
+    /**
+     * Number of bytes written.
+     */
+    private long size;
+
+    /**
+     * Lower-case hex SHA-256 of the content.
+     */
+    private String sha256;
+
+    /**
+     * URL of the stored object.
+     */
+    private String url;
+}
@@ -0,0 +1,83 @@
+package com.portfolio.campaignmanager.util;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over UUIDs. Membership tests never allocate and never lock, and may
+ * run concurrently with insertions: an insertion is visible once {@link #add} has returned.
+ *
+ * <p>The bit positions are derived from the two halves of the UUID by double hashing, so a
+ * key is hashed without being converted to bytes.</p>
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+
+    /**
+     * Creates a filter sized for the given number of keys at the given false-positive rate.
+     *
+     * @param capacity Keys the filter is sized for; more keys raise the false-positive rate
+     * @param falsePositiveRate Expected false-positive rate at capacity, between 0 and 1
+     */
+    public BloomFilter(long capacity, double falsePositiveRate) {
+        long keys = Math.max(1, capacity);
+        long size = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (size + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount << 6;
+        this.hashes = (int) Math.max(1, Math.round((double) bits / keys * Math.log(2)));
+        this.capacity = keys;
+    }
+
+    public void add(UUID key) {
+        long h1 = mix(key.getMostSignificantBits());
+        long h2 = mix(key.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * False if the key was definitely never added; true if it probably was.
+     */
+    public boolean mightContain(UUID key) {
+        long h1 = mix(key.getMostSignificantBits());
+        long h2 = mix(key.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keys the filter was sized for.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Finalizer of MurmurHash3's 64-bit variant; spreads every input bit over the output.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,72 @@
+package com.portfolio.campaignmanager.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes a JSON array to an output stream one element at a time, so a large result is never
+ * held in memory as a list of DTOs. Output is flushed whenever the generator's buffer fills,
+ * not after every element. Given a CBOR or Smile mapper, it writes that format's array instead.
+ *
+ * <p>Nothing is written before the first element, so a failure before then (an ownership
+ * check, say) leaves the response uncommitted for the exception handler. A failure after
+ * that truncates the array, which clients detect as invalid JSON.</p>
+ *
+ * @param <T> Element type
+ */
+public class JsonArrayWriter<T> implements Consumer<T> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final OutputStream output;
+    private JsonGenerator generator;
+    private long count;
+
+    public JsonArrayWriter(ObjectMapper objectMapper, Class<T> type, OutputStream output) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.output = output;
+    }
+
+    @Override
+    public void accept(T element) {
+        try {
+            start();
+            writer.writeValue(generator, element);
+            count++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the array and flushes it. Must be called once all elements have been accepted.
+     */
+    public void finish() throws IOException {
+        start();
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    /**
+     * Elements written so far.
+     */
+    public long count() {
+        return count;
+    }
+
+    private void start() throws IOException {
+        if (generator == null) {
+            generator = objectMapper.createGenerator(output);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.portfolio.campaignmanager.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the loader and
+ * every caller that arrives while it runs waits for and shares its result (or exception).
+ * Nothing is cached once the load completes.
+ *
+ * @param <K> Key type
+ * @param <V> Result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Thrown to a caller that gave up waiting for another caller's load.
+     */
+    public static class WaitTimeoutException extends RuntimeException {
+
+        public WaitTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Runs the loader for the key unless a load for the same key is already in flight,
+     * in which case the caller waits for that load's result.
+     *
+     * @param key Key identifying the load
+     * @param loader Loader run by the first caller
+     * @return The loaded value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, loader, null);
+    }
+
+    /**
+     * Like {@link #execute(Object, Supplier)}, but a caller joining a load already in flight
+     * waits at most the given time. The timeout does not apply to the caller running the
+     * loader, and a caller that times out does not cancel the load for the others.
+     *
+     * @param key Key identifying the load
+     * @param loader Loader run by the first caller
+     * @param timeout Longest time to wait for another caller's load, or null to wait indefinitely
+     * @return The loaded value
+     * @throws WaitTimeoutException if the load in flight did not complete in time
+     */
+    public V execute(K key, Supplier<V> loader, Duration timeout) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return timeout != null ? await(existing, timeout) : await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Number of loads currently in flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Number of calls so far that joined a load in flight instead of running the loader.
+     */
+    public long shared() {
+        return shared.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight, Duration timeout) {
+        try {
+            return flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new WaitTimeoutException("Timed out after " + timeout + " waiting for a load in flight");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a load in flight", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
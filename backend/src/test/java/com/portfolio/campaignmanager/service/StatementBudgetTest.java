@@ -0,0 +1,150 @@
+package com.portfolio.campaignmanager.service;
+
+import com.portfolio.campaignmanager.model.entity.Campaign;
+import com.portfolio.campaignmanager.model.entity.CampaignAsset;
+import com.portfolio.campaignmanager.model.entity.User;
+import com.portfolio.campaignmanager.monitoring.StatementBudgetProperties;
+import com.portfolio.campaignmanager.monitoring.StatementCounter;
+import com.portfolio.campaignmanager.repository.CampaignAssetRepository;
+import com.portfolio.campaignmanager.repository.CampaignRepository;
+import com.portfolio.campaignmanager.repository.UserRepository;
+import com.portfolio.campaignmanager.support.ExpectedStatementCount;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins the SQL statements issued by the service calls behind the endpoints that have a
+ * statement budget in {@code application.yml}, so an N+1 regression fails the build instead
+ * of only logging a warning in production.
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "spring.jpa.show-sql=false",
+        "logging.file.name=",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class StatementBudgetTest {
+
+    private static final int ASSETS = 3;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignAssetRepository campaignAssetRepository;
+
+    @Autowired
+    private StatementBudgetProperties budgetProperties;
+
+    private UUID campaignId;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void createCampaignWithAssets() {
+        User user = new User();
+        user.setEmail("budget-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("unused");
+        user.setName("Budget Test");
+        user = userRepository.save(user);
+
+        Campaign campaign = new Campaign();
+        campaign.setName("Statement budget");
+        campaign.setBudget(new BigDecimal("1000.00"));
+        campaign.setUser(user);
+        campaign = campaignRepository.save(campaign);
+        campaignId = campaign.getId();
+
+        for (int i = 0; i < ASSETS; i++) {
+            CampaignAsset asset = new CampaignAsset();
+            asset.setCampaign(campaign);
+            asset.setFileName("banner-" + i + ".png");
+            asset.setS3Key("test/" + UUID.randomUUID());
+            asset.setS3Url("file:///dev/null");
+            asset.setFileType("image/png");
+            asset.setFileSize(1024L);
+            campaignAssetRepository.save(asset);
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+                        .password("unused")
+                        .authorities("ROLE_USER")
+                        .build(),
+                null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @ExpectedStatementCount(3)
+    void getCampaignStaysWithinBudget() {
+        campaignService.getCampaignById(campaignId);
+        assertWithinBudget("GET /api/campaigns/{id}");
+    }
+
+    @Test
+    @ExpectedStatementCount(4)
+    void getAssetPageStaysWithinBudget() {
+        assertEquals(ASSETS, assetService.getAssets(campaignId, null, null, null, null, 50).getItems().size());
+        assertWithinBudget("GET /api/campaigns/{campaignId}/assets");
+    }
+
+    @Test
+    @ExpectedStatementCount(2)
+    void getAssetSummariesStaysWithinBudget() {
+        assertEquals(ASSETS, assetService.getAssetSummaries(List.of(campaignId), 10).get(campaignId).size());
+        assertWithinBudget("GET /api/assets");
+    }
+
+    private void assertWithinBudget(String endpoint) {
+        Integer budget = budgetProperties.getEndpoints().get(endpoint);
+        long statements = StatementCounter.current();
+        assertTrue(budget != null && statements <= budget,
+                () -> endpoint + " issued " + statements + " statements, budget is " + budget);
+    }
+}
@@ -0,0 +1,237 @@
+package com.portfolio.campaignmanager.storage;
+
+import com.portfolio.campaignmanager.config.AwsProperties;
+import com.portfolio.campaignmanager.exception.AssetStorageException;
+import com.portfolio.campaignmanager.support.InMemoryS3AsyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs S3 uploads against an in-memory S3 stand-in: single PUTs, concurrent multipart parts,
+ * part retries, aborts and back-pressure when every part buffer is in flight. Parts are 1KB
+ * here; the stand-in, unlike S3, does not enforce the 5MB minimum.
+ */
+class S3AssetStorageTest {
+
+    private static final int PART_SIZE = 1024;
+    private static final String KEY = "staging/test";
+
+    private InMemoryS3AsyncClient s3;
+    private StorageProperties storageProperties;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new InMemoryS3AsyncClient();
+        storageProperties = new StorageProperties();
+        storageProperties.setPartSize(DataSize.ofBytes(PART_SIZE));
+        storageProperties.setUploadConcurrency(8);
+        storageProperties.setPartsInFlightPerUpload(3);
+        storageProperties.setPartRetries(2);
+        storageProperties.setBufferWaitTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.close();
+    }
+
+    @Test
+    void smallObjectIsStoredWithSinglePut() {
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        byte[] content = content(PART_SIZE / 2);
+
+        StoredObject stored = storage(pool).store(KEY, new ByteArrayInputStream(content), "image/png");
+
+        assertArrayEquals(content, s3.object(KEY));
+        assertEquals(1, s3.puts());
+        assertEquals(content.length, stored.getSize());
+        assertEquals(sha256(content), stored.getSha256());
+        assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void largeObjectIsUploadedInConcurrentParts() {
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        s3.setPartLatency(Duration.ofMillis(50));
+        byte[] content = content(PART_SIZE * 12 + PART_SIZE / 2);
+
+        StoredObject stored = storage(pool).store(KEY, new ByteArrayInputStream(content), "video/mp4");
+
+        assertArrayEquals(content, s3.object(KEY));
+        assertEquals(0, s3.puts());
+        assertEquals(storageProperties.getPartsInFlightPerUpload(), s3.maxPartsInFlight());
+        assertEquals(content.length, stored.getSize());
+        assertEquals(sha256(content), stored.getSha256());
+        assertEquals(0, s3.openUploads());
+        assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void failedPartIsRetried() {
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        s3.failPart(2, 2);
+        byte[] content = content(PART_SIZE * 4);
+
+        storage(pool).store(KEY, new ByteArrayInputStream(content), "video/mp4");
+
+        assertArrayEquals(content, s3.object(KEY));
+        assertEquals(3, s3.attempts(2));
+        assertEquals(1, s3.attempts(3));
+        assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void uploadIsAbortedWhenPartExhaustsRetries() {
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        s3.failPart(2, storageProperties.getPartRetries() + 1);
+        byte[] content = content(PART_SIZE * 6);
+
+        assertThrows(AssetStorageException.class,
+                () -> storage(pool).store(KEY, new ByteArrayInputStream(content), "video/mp4"));
+
+        assertEquals(storageProperties.getPartRetries() + 1, s3.attempts(2));
+        assertNull(s3.object(KEY));
+        assertEquals(1, s3.abortedUploads().size());
+        assertEquals(0, s3.openUploads());
+        assertEquals(0, s3.partsAfterAbort());
+        assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void uploadIsAbortedWhenBodyFails() {
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        s3.setPartLatency(Duration.ofMillis(50));
+        InputStream body = new FilterInputStream(new ByteArrayInputStream(content(PART_SIZE * 2 + 10))) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read < 0) {
+                    throw new IOException("Client disconnected");
+                }
+                return read;
+            }
+        };
+
+        assertThrows(AssetStorageException.class, () -> storage(pool).store(KEY, body, "video/mp4"));
+
+        assertNull(s3.object(KEY));
+        assertEquals(1, s3.abortedUploads().size());
+        assertEquals(0, s3.partsAfterAbort());
+        assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void readingPausesWhileEveryBufferIsInFlight() throws Exception {
+        storageProperties.setUploadConcurrency(2);
+        storageProperties.setPartsInFlightPerUpload(4);
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        s3.holdParts();
+        byte[] content = content(PART_SIZE * 8);
+        CountingInputStream body = new CountingInputStream(new ByteArrayInputStream(content));
+
+        CompletableFuture<StoredObject> upload = CompletableFuture.supplyAsync(
+                () -> storage(pool).store(KEY, body, "video/mp4"));
+        awaitPartsInFlight(2);
+        Thread.sleep(200);
+
+        assertEquals(2L * PART_SIZE, body.count());
+        assertEquals(2, s3.partsInFlight());
+
+        s3.releaseParts();
+        upload.get(10, TimeUnit.SECONDS);
+
+        assertArrayEquals(content, s3.object(KEY));
+        assertEquals(2, s3.maxPartsInFlight());
+        assertEquals(0, pool.inUse());
+    }
+
+    @Test
+    void uploadFailsAndAbortsWhenNoBufferFreesUp() {
+        storageProperties.setUploadConcurrency(2);
+        storageProperties.setBufferWaitTimeout(Duration.ofMillis(200));
+        PartBufferPool pool = new PartBufferPool(storageProperties);
+        s3.holdParts();
+        CompletableFuture.runAsync(s3::releaseParts, CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS));
+
+        AssetStorageException error = assertThrows(AssetStorageException.class,
+                () -> storage(pool).store(KEY, new ByteArrayInputStream(content(PART_SIZE * 8)), "video/mp4"));
+
+        assertTrue(error.getMessage().contains("Upload capacity exhausted"), error.getMessage());
+        assertNull(s3.object(KEY));
+        assertEquals(1, s3.abortedUploads().size());
+        assertEquals(0, s3.partsAfterAbort());
+        assertEquals(0, pool.inUse());
+    }
+
+    private S3AssetStorage storage(PartBufferPool pool) {
+        AwsProperties awsProperties = new AwsProperties();
+        awsProperties.getS3().setBucketName("assets");
+        S3Utilities utilities = S3Utilities.builder().region(Region.US_EAST_1).build();
+        return new S3AssetStorage(s3, utilities, pool, awsProperties, storageProperties);
+    }
+
+    private void awaitPartsInFlight(int parts) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (s3.partsInFlight() < parts && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final AtomicLong count = new AtomicLong();
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count.addAndGet(read);
+            }
+            return read;
+        }
+
+        long count() {
+            return count.get();
+        }
+    }
+}
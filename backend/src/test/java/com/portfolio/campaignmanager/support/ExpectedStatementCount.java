@@ -0,0 +1,35 @@
+package com.portfolio.campaignmanager.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Asserts the exact number of SQL statements Hibernate prepares while the annotated test method runs.
+ * Counting covers the test method body only, not {@code @BeforeEach} setup.
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;ExpectedStatementCount(2)
+ * void dashboardSummaryUsesTwoQueries() {
+ *     dashboardService.getDashboardSummary(userId);
+ * }
+ * </pre>
+ *
+ * <p>Service calls must run on the test thread; statements issued on other threads are not counted.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(StatementCountExtension.class)
+public @interface ExpectedStatementCount {
+
+    /**
+     * Expected number of SQL statements.
+     */
+    long value();
+}
@@ -0,0 +1,269 @@
+package com.portfolio.campaignmanager.support;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in for S3, implementing the {@link S3AsyncClient} operations used to store
+ * assets. Parts are uploaded on a separate thread pool like the CRT client does, and tests can
+ * slow them down, hold them until released, or make them fail a number of times.
+ *
+ * <p>It records the most parts seen in flight at once, every attempt per part, aborted uploads
+ * and parts that finished after their upload was aborted, so tests can check concurrency,
+ * retries and cleanup without a real object store.</p>
+ */
+public class InMemoryS3AsyncClient implements S3AsyncClient {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Set<String> abortedUploads = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, AtomicInteger> partAttempts = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> partFailures = new ConcurrentHashMap<>();
+    private final AtomicInteger partsInFlight = new AtomicInteger();
+    private final AtomicInteger maxPartsInFlight = new AtomicInteger();
+    private final AtomicInteger partsAfterAbort = new AtomicInteger();
+    private final AtomicInteger puts = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile Duration partLatency = Duration.ZERO;
+    private volatile CountDownLatch partGate = new CountDownLatch(0);
+
+    /**
+     * Delays every part upload by the given time.
+     */
+    public void setPartLatency(Duration partLatency) {
+        this.partLatency = partLatency;
+    }
+
+    /**
+     * Makes the given part fail the next {@code times} attempts with a 500 error.
+     */
+    public void failPart(int partNumber, int times) {
+        partFailures.put(partNumber, times);
+    }
+
+    /**
+     * Keeps part uploads in flight until {@link #releaseParts()} is called.
+     */
+    public void holdParts() {
+        partGate = new CountDownLatch(1);
+    }
+
+    /**
+     * Lets held part uploads finish.
+     */
+    public void releaseParts() {
+        partGate.countDown();
+    }
+
+    public byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    public int puts() {
+        return puts.get();
+    }
+
+    public int openUploads() {
+        return uploads.size();
+    }
+
+    public Set<String> abortedUploads() {
+        return abortedUploads;
+    }
+
+    public int attempts(int partNumber) {
+        AtomicInteger attempts = partAttempts.get(partNumber);
+        return attempts != null ? attempts.get() : 0;
+    }
+
+    public int partsInFlight() {
+        return partsInFlight.get();
+    }
+
+    public int maxPartsInFlight() {
+        return maxPartsInFlight.get();
+    }
+
+    public int partsAfterAbort() {
+        return partsAfterAbort.get();
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+        return read(body).thenApply(content -> {
+            objects.put(request.key(), content);
+            puts.incrementAndGet();
+            return PutObjectResponse.builder().eTag(etag(content)).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+        return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket()).key(request.key()).uploadId(uploadId)
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+        byte[] content = read(body).join();
+        return CompletableFuture.supplyAsync(() -> {
+            maxPartsInFlight.accumulateAndGet(partsInFlight.incrementAndGet(), Math::max);
+            try {
+                awaitPart();
+                partAttempts.computeIfAbsent(request.partNumber(), part -> new AtomicInteger()).incrementAndGet();
+                Integer failures = partFailures.get(request.partNumber());
+                if (failures != null && failures > 0) {
+                    partFailures.put(request.partNumber(), failures - 1);
+                    throw S3Exception.builder().statusCode(500).message("Injected failure").build();
+                }
+                Map<Integer, byte[]> parts = uploads.get(request.uploadId());
+                if (parts == null) {
+                    partsAfterAbort.incrementAndGet();
+                    throw NoSuchUploadException.builder().statusCode(404).message("Upload aborted").build();
+                }
+                parts.put(request.partNumber(), content);
+                return UploadPartResponse.builder().eTag(etag(content)).build();
+            } finally {
+                partsInFlight.decrementAndGet();
+            }
+        }, executor);
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+            CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+        if (parts == null) {
+            return CompletableFuture.failedFuture(
+                    NoSuchUploadException.builder().statusCode(404).message("Unknown upload").build());
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            byte[] partContent = parts.get(part.partNumber());
+            if (partContent == null || !etag(partContent).equals(part.eTag())) {
+                return CompletableFuture.failedFuture(
+                        S3Exception.builder().statusCode(400).message("Invalid part " + part.partNumber()).build());
+            }
+            content.writeBytes(partContent);
+        }
+        objects.put(request.key(), content.toByteArray());
+        return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder()
+                .bucket(request.bucket()).key(request.key())
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        abortedUploads.add(request.uploadId());
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<CopyObjectResponse> copyObject(CopyObjectRequest request) {
+        byte[] content = objects.get(request.sourceKey());
+        if (content == null) {
+            return CompletableFuture.failedFuture(
+                    S3Exception.builder().statusCode(404).message("No such key").build());
+        }
+        objects.put(request.destinationKey(), content);
+        return CompletableFuture.completedFuture(CopyObjectResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return CompletableFuture.completedFuture(DeleteObjectResponse.builder().build());
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        releaseParts();
+        executor.shutdownNow();
+    }
+
+    private void awaitPart() {
+        try {
+            partGate.await();
+            Thread.sleep(partLatency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String etag(byte[] content) {
+        return "\"" + Integer.toHexString(Arrays.hashCode(content)) + "-" + content.length + "\"";
+    }
+
+    private static CompletableFuture<byte[]> read(AsyncRequestBody body) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                content.writeBytes(chunk);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(content.toByteArray());
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.campaignmanager.support;
+
+import com.portfolio.campaignmanager.monitoring.StatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JUnit extension backing {@link ExpectedStatementCount}.
+ * Starts a {@link StatementCounter} right before the test method and verifies it right after.
+ */
+public class StatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        StatementCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long actual = StatementCounter.stop();
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ExpectedStatementCount.class)
+                .ifPresent(expected -> assertEquals(expected.value(), actual,
+                        () -> "Unexpected number of SQL statements in " + context.getDisplayName()));
+    }
+}
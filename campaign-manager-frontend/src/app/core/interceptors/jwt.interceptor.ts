@@ -1,8 +1,16 @@
-import { HttpInterceptorFn, HttpErrorResponse } from '@angular/common/http';
+import { HttpInterceptorFn, HttpErrorResponse, HttpRequest } from '@angular/common/http';
 import { inject } from '@angular/core';
-import { catchError, throwError } from 'rxjs';
+import { catchError, switchMap, throwError } from 'rxjs';
 import { AuthService } from '../services/auth.service';
 
+// Refresh this many seconds before the access token expires
+const REFRESH_LEEWAY_SECONDS = 30;
+
+const withToken = (req: HttpRequest<unknown>, token: string) =>
+  req.clone({
+    headers: req.headers.set('Authorization', `Bearer ${token}`)
+  });
+
 export const JwtInterceptor: HttpInterceptorFn = (req, next) => {
   const authService = inject(AuthService);
 
@@ -11,29 +19,29 @@ export const JwtInterceptor: HttpInterceptorFn = (req, next) => {
     return next(req);
   }
 
+  const handleError = catchError((error: HttpErrorResponse) => {
+    if (error.status === 401) {
+      authService.logout();
+    }
+    return throwError(() => error);
+  });
+
   const token = authService.getToken();
-  
-  if (token) {
-    const authReq = req.clone({
-      headers: req.headers.set('Authorization', `Bearer ${token}`)
-    });
-    
-    return next(authReq).pipe(
+
+  // Access token (nearly) expired: exchange the refresh token first
+  if (authService.isExpired(token, REFRESH_LEEWAY_SECONDS) && !authService.isExpired(authService.getRefreshToken())) {
+    return authService.refresh().pipe(
       catchError((error: HttpErrorResponse) => {
-        if (error.status === 401) {
-          authService.logout();
-        }
+        authService.logout();
         return throwError(() => error);
-      })
+      }),
+      switchMap(response => next(withToken(req, response.token)).pipe(handleError))
     );
   }
 
-  return next(req).pipe(
-    catchError((error: HttpErrorResponse) => {
-      if (error.status === 401) {
-        authService.logout();
-      }
-      return throwError(() => error);
-    })
-  );
-};
\ No newline at end of file
+  if (token) {
+    return next(withToken(req, token)).pipe(handleError);
+  }
+
+  return next(req).pipe(handleError);
+};
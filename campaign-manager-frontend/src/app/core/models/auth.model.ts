@@ -11,6 +11,8 @@ export interface RegisterRequest {
 
 export interface AuthResponse {
   token: string;
+  refreshToken: string;
+  expiresIn: number;
   userId: string;
   email: string;
   name: string;
@@ -14,6 +14,14 @@ export interface Campaign {
   assetCount: number;
 }
 
+export interface CampaignChanges {
+  changed: Campaign[];
+  deleted: string[];
+  cursor: string;
+  hasMore: boolean;
+  reset: boolean;
+}
+
 export interface CampaignRequest {
   name: string;
   description?: string;
@@ -30,5 +38,13 @@ export interface CampaignAsset {
   s3Url: string;
   fileType: string;
   fileSize: number;
+  checksumSha256?: string;
   uploadedAt: string;
+  thumbnailUrl?: string;
+  previewUrl?: string;
+}
+
+export interface AssetPage {
+  items: CampaignAsset[];
+  nextCursor?: string;
 }
\ No newline at end of file
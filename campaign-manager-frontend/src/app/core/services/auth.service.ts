@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpHeaders } from '@angular/common/http';
 import { Router } from '@angular/router';
-import { Observable, tap } from 'rxjs';
+import { Observable, finalize, shareReplay, tap } from 'rxjs';
 import { environment } from '../../../environments/environment';
 import { AuthRequest, RegisterRequest, AuthResponse, User } from '../models';
 
@@ -11,7 +11,9 @@ import { AuthRequest, RegisterRequest, AuthResponse, User } from '../models';
 export class AuthService {
   private readonly API_URL = environment.apiUrl;
   private readonly TOKEN_KEY = 'auth_token';
+  private readonly REFRESH_TOKEN_KEY = 'refresh_token';
   private readonly USER_KEY = 'current_user';
+  private refreshInFlight: Observable<AuthResponse> | null = null;
 
   constructor(
     private http: HttpClient,
@@ -36,24 +38,58 @@ export class AuthService {
       );
   }
 
+  /**
+   * Exchanges the refresh token for new tokens. Refresh tokens are single-use, so concurrent
+   * callers share one request.
+   */
+  refresh(): Observable<AuthResponse> {
+    if (!this.refreshInFlight) {
+      this.refreshInFlight = this.http.post<AuthResponse>(`${this.API_URL}/auth/refresh`, {
+        refreshToken: this.getRefreshToken()
+      }).pipe(
+        tap(response => this.storeAuthData(response)),
+        finalize(() => this.refreshInFlight = null),
+        shareReplay(1)
+      );
+    }
+    return this.refreshInFlight;
+  }
+
   logout(): void {
+    const token = this.getToken();
+    const refreshToken = this.getRefreshToken();
+    if (token || refreshToken) {
+      const headers = token ? new HttpHeaders({ Authorization: `Bearer ${token}` }) : undefined;
+      this.http.post(`${this.API_URL}/auth/logout`, { refreshToken }, { headers }).subscribe({ error: () => {} });
+    }
+
     localStorage.removeItem(this.TOKEN_KEY);
+    localStorage.removeItem(this.REFRESH_TOKEN_KEY);
     localStorage.removeItem(this.USER_KEY);
     this.router.navigate(['/auth/login']);
   }
 
+  /**
+   * True while the access token is valid, or once it has expired if it can still be refreshed.
+   */
   isAuthenticated(): boolean {
-    const token = this.getToken();
+    return !this.isExpired(this.getToken()) || !this.isExpired(this.getRefreshToken());
+  }
+
+  /**
+   * True if the token is missing, malformed, or expires within the given number of seconds.
+   */
+  isExpired(token: string | null, leewaySeconds = 0): boolean {
     if (!token) {
-      return false;
+      return true;
     }
 
     try {
       const payload = JSON.parse(atob(token.split('.')[1]));
       const currentTime = Math.floor(Date.now() / 1000);
-      return payload.exp > currentTime;
+      return payload.exp <= currentTime + leewaySeconds;
     } catch (error) {
-      return false;
+      return true;
     }
   }
 
@@ -61,6 +97,10 @@ export class AuthService {
     return localStorage.getItem(this.TOKEN_KEY);
   }
 
+  getRefreshToken(): string | null {
+    return localStorage.getItem(this.REFRESH_TOKEN_KEY);
+  }
+
   getCurrentUser(): User | null {
     const userStr = localStorage.getItem(this.USER_KEY);
     if (!userStr) {
@@ -76,6 +116,7 @@ export class AuthService {
 
   private storeAuthData(response: AuthResponse): void {
     localStorage.setItem(this.TOKEN_KEY, response.token);
+    localStorage.setItem(this.REFRESH_TOKEN_KEY, response.refreshToken);
     
     const user: User = {
       id: response.userId,
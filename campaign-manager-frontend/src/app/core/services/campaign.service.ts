@@ -1,8 +1,8 @@
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpParams } from '@angular/common/http';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
-import { Campaign, CampaignRequest, CampaignAsset } from '../models';
+import { Campaign, CampaignChanges, CampaignRequest, CampaignAsset, AssetPage } from '../models';
 
 @Injectable({
   providedIn: 'root'
@@ -20,12 +20,22 @@ export class CampaignService {
     return this.http.get<Campaign[]>(`${this.API_URL}/campaigns`, { params });
   }
 
+  getCampaignChanges(since?: string): Observable<CampaignChanges> {
+    let params = new HttpParams();
+    if (since) {
+      params = params.set('since', since);
+    }
+    return this.http.get<CampaignChanges>(`${this.API_URL}/campaigns/changes`, { params });
+  }
+
   getCampaignById(id: string): Observable<Campaign> {
     return this.http.get<Campaign>(`${this.API_URL}/campaigns/${id}`);
   }
 
-  createCampaign(data: CampaignRequest): Observable<Campaign> {
-    return this.http.post<Campaign>(`${this.API_URL}/campaigns`, data);
+  createCampaign(data: CampaignRequest, idempotencyKey: string = crypto.randomUUID()): Observable<Campaign> {
+    // Resubscribing (e.g. with retry()) resends the same key, so the campaign is created at most once
+    const headers = new HttpHeaders({ 'Idempotency-Key': idempotencyKey });
+    return this.http.post<Campaign>(`${this.API_URL}/campaigns`, data, { headers });
   }
 
   updateCampaign(id: string, data: CampaignRequest): Observable<Campaign> {
@@ -37,17 +47,23 @@ export class CampaignService {
   }
 
   uploadAsset(campaignId: string, file: File): Observable<CampaignAsset> {
-    const formData = new FormData();
-    formData.append('file', file);
-    
+    // The file is sent as the raw request body so the backend can stream it to storage
+    const params = new HttpParams().set('fileName', file.name);
+    const headers = new HttpHeaders({ 'Content-Type': file.type || 'application/octet-stream' });
+
     return this.http.post<CampaignAsset>(
       `${this.API_URL}/campaigns/${campaignId}/assets`,
-      formData
+      file,
+      { params, headers }
     );
   }
 
-  getAssets(campaignId: string): Observable<CampaignAsset[]> {
-    return this.http.get<CampaignAsset[]>(`${this.API_URL}/campaigns/${campaignId}/assets`);
+  getAssets(campaignId: string, cursor?: string): Observable<AssetPage> {
+    let params = new HttpParams();
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.http.get<AssetPage>(`${this.API_URL}/campaigns/${campaignId}/assets`, { params });
   }
 
   deleteAsset(assetId: string): Observable<void> {
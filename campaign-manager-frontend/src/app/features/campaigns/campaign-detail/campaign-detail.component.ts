@@ -36,6 +36,7 @@ export class CampaignDetailComponent implements OnInit, OnDestroy {
   assets: CampaignAsset[] = [];
   loading = true;
   assetsLoading = false;
+  assetsCursor?: string;
   uploadingAsset = false;
   campaignId!: string;
 
@@ -85,8 +86,9 @@ export class CampaignDetailComponent implements OnInit, OnDestroy {
     this.campaignService.getAssets(this.campaignId)
       .pipe(takeUntil(this.destroy$))
       .subscribe({
-        next: (assets) => {
-          this.assets = assets;
+        next: (page) => {
+          this.assets = page.items;
+          this.assetsCursor = page.nextCursor;
           this.assetsLoading = false;
         },
         error: (error) => {
@@ -97,6 +99,24 @@ export class CampaignDetailComponent implements OnInit, OnDestroy {
       });
   }
 
+  loadMoreAssets() {
+    if (!this.assetsCursor) {
+      return;
+    }
+    this.campaignService.getAssets(this.campaignId, this.assetsCursor)
+      .pipe(takeUntil(this.destroy$))
+      .subscribe({
+        next: (page) => {
+          this.assets = [...this.assets, ...page.items];
+          this.assetsCursor = page.nextCursor;
+        },
+        error: (error) => {
+          console.error('Error loading assets:', error);
+          this.toastr.error('Failed to load campaign assets');
+        }
+      });
+  }
+
   onFileSelected(event: FileUploadEvent) {
     this.uploadingAsset = true;
     this.campaignService.uploadAsset(this.campaignId, event.file)
@@ -104,8 +124,8 @@ export class CampaignDetailComponent implements OnInit, OnDestroy {
       .subscribe({
         next: (asset) => {
           this.toastr.success('Asset uploaded successfully');
-          this.assets.push(asset);
-          this.updateCampaignAssetCount();
+          this.assets.unshift(asset);
+          this.updateCampaignAssetCount(1);
           this.uploadingAsset = false;
         },
         error: (error) => {
@@ -130,7 +150,7 @@ export class CampaignDetailComponent implements OnInit, OnDestroy {
             next: () => {
               this.toastr.success('Asset deleted successfully');
               this.assets = this.assets.filter(a => a.id !== asset.id);
-              this.updateCampaignAssetCount();
+              this.updateCampaignAssetCount(-1);
             },
             error: (error) => {
               console.error('Error deleting asset:', error);
@@ -141,9 +161,10 @@ export class CampaignDetailComponent implements OnInit, OnDestroy {
     });
   }
 
-  private updateCampaignAssetCount() {
+  private updateCampaignAssetCount(delta: number) {
+    // Only the first pages of assets are loaded, so the total is adjusted rather than recounted
     if (this.campaign) {
-      this.campaign.assetCount = this.assets.length;
+      this.campaign.assetCount = Math.max(0, this.campaign.assetCount + delta);
     }
   }
 